@@ -0,0 +1,151 @@
+package Handlers;
+
+import Utilities.Utils;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * A bounded single-producer/single-consumer queue of timestamped directions. The key listener (on the EDT) pushes the
+ * directions, the game loop drains them at the start of each turn. Neither side takes a lock : each index is written
+ * by a single thread and published with a release store. When the queue is full, the new direction is dropped.
+ */
+public final class InputQueue
+{
+    /**
+     * The directions, indexed by <code>position & mask</code>.
+     */
+    private final Utils.Moving[] directions;
+
+
+    /**
+     * The timestamps of the directions (System.nanoTime()), indexed like the directions.
+     */
+    private final long[] timestamps;
+
+
+    /**
+     * The capacity minus 1. The capacity is a power of two.
+     */
+    private final int mask;
+
+
+    /**
+     * The position of the next direction pushed. Only written by the producer.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+
+    /**
+     * The position of the next direction polled. Only written by the consumer.
+     */
+    private final AtomicLong head = new AtomicLong();
+
+
+    /**
+     * The amount of dropped directions.
+     */
+    private final AtomicLong dropped = new AtomicLong();
+
+
+    /**
+     * The class' constructor.
+     * @param capacity The minimum capacity. Rounded up to a power of two.
+     * <pre>{@code
+     * InputQueue inputs = new InputQueue(16);
+     * }</pre>
+     */
+    public InputQueue(int capacity)
+    {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.directions = new Utils.Moving[size];
+        this.timestamps = new long[size];
+        this.mask = size - 1;
+    }
+
+
+    /**
+     * Pushes a direction stamped with the current time. Must only be called by the producer.
+     * @param direction The direction.
+     * @return false if the queue was full and the direction was dropped.
+     * <pre>{@code
+     * InputQueue inputs = new InputQueue(16);
+     * inputs.offer(Utils.Moving.UP);
+     * }</pre>
+     */
+    public boolean offer(Utils.Moving direction)
+    {
+        long tail = this.tail.getPlain();
+        if (tail - this.head.getAcquire() > this.mask)
+        {
+            this.dropped.incrementAndGet();
+            return false;
+        }
+        int i = (int) tail & this.mask;
+        this.directions[i] = direction;
+        this.timestamps[i] = System.nanoTime();
+        this.tail.setRelease(tail + 1);
+        return true;
+    }
+
+
+    /**
+     * Checks if the queue holds a direction. Must only be called by the consumer.
+     * @return true if a direction can be polled.
+     * <pre>{@code
+     * InputQueue inputs = new InputQueue(16);
+     * boolean bool = inputs.isEmpty();
+     * }</pre>
+     */
+    public boolean isEmpty()
+    {
+        return this.head.getPlain() == this.tail.getAcquire();
+    }
+
+
+    /**
+     * Returns the timestamp of the oldest direction. Must only be called by the consumer, on a non-empty queue.
+     * @return the timestamp of the oldest direction (System.nanoTime()).
+     * <pre>{@code
+     * InputQueue inputs = ...;
+     * if (!inputs.isEmpty()) long timestamp = inputs.peekTimestamp();
+     * }</pre>
+     */
+    public long peekTimestamp()
+    {
+        return this.timestamps[(int) this.head.getPlain() & this.mask];
+    }
+
+
+    /**
+     * Removes and returns the oldest direction. Must only be called by the consumer, on a non-empty queue.
+     * @return the oldest direction.
+     * <pre>{@code
+     * InputQueue inputs = ...;
+     * long timestamp = inputs.peekTimestamp();
+     * Utils.Moving direction = inputs.poll();
+     * }</pre>
+     */
+    public Utils.Moving poll()
+    {
+        long head = this.head.getPlain();
+        int i = (int) head & this.mask;
+        Utils.Moving direction = this.directions[i];
+        this.directions[i] = null;
+        this.head.setRelease(head + 1);
+        return direction;
+    }
+
+
+    /**
+     * Returns the amount of directions dropped because the queue was full.
+     * @return the amount of dropped directions.
+     * <pre>{@code
+     * InputQueue inputs = new InputQueue(16);
+     * long dropped = inputs.getDropped();
+     * }</pre>
+     */
+    public long getDropped()
+    {
+        return this.dropped.get();
+    }
+}
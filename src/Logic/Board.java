@@ -0,0 +1,553 @@
+package Logic;
+
+import Components.TileVariant;
+import Components.TokenVariants;
+import Utilities.Configs;
+import Utilities.GameRandom;
+import java.util.Arrays;
+
+
+/**
+ * The board class. The board is stored in flat primitive arrays indexed by a single cell id
+ * (<code>cell = row * cols + col</code>) : the tiles' variants and the tokens are stored as bytes, the entities'
+ * positions as cell ids. The ghosts on each cell are chained in an intrusive doubly linked list over the ghosts'
+ * indexes, so placing, removing and finding ghosts on a cell takes constant time whatever the amount of ghosts.
+ */
+public class Board
+{
+    /**
+     * The tile variants, indexed by their ordinal.
+     */
+    private static final TileVariant[] TILE_VARIANTS = TileVariant.values();
+
+
+    /**
+     * The token variants, indexed by their ordinal.
+     */
+    private static final TokenVariants[] TOKEN_VARIANTS = TokenVariants.values();
+
+
+    /**
+     * The byte stored in the token layer when a tile has no token.
+     */
+    private static final byte NO_TOKEN = (byte) TokenVariants.NONE.ordinal();
+
+
+    /**
+     * The amount of rows on the board.
+     */
+    private final int rows;
+
+
+    /**
+     * The amount of columns on the board.
+     */
+    private final int cols;
+
+
+    /**
+     * The tiles' variants ordinal, indexed by cell id.
+     */
+    private final byte[] tiles;
+
+
+    /**
+     * The tokens' variants ordinal, indexed by cell id.
+     */
+    private final byte[] tokens;
+
+
+    /**
+     * The player's cell id.
+     */
+    private int playerCell;
+
+
+    /**
+     * The value used by the ghosts' lists when there is no ghost.
+     */
+    public static final int NO_GHOST = -1;
+
+
+    /**
+     * The ghosts' cell ids, indexed by ghost.
+     */
+    private final int[] ghostCells;
+
+
+    /**
+     * The first ghost on each cell, indexed by cell id. NO_GHOST if the cell is free.
+     */
+    private final int[] cellGhosts;
+
+
+    /**
+     * The next ghost on the same cell, indexed by ghost. NO_GHOST if the ghost is the last one.
+     */
+    private final int[] nextGhosts;
+
+
+    /**
+     * The previous ghost on the same cell, indexed by ghost. NO_GHOST if the ghost is the first one.
+     */
+    private final int[] previousGhosts;
+
+
+    /**
+     * The class' constructor. Creates a board filled with walls and without tokens. The ghosts are not placed.
+     * @param rows The amount of rows.
+     * @param cols The amount of columns.
+     * @param ghosts The amount of ghosts.
+     * <pre>{@code
+     * Board board = new Board(21, 21, 4);
+     * }</pre>
+     */
+    public Board(int rows, int cols, int ghosts)
+    {
+        this.rows = rows;
+        this.cols = cols;
+        this.tiles = new byte[rows * cols];
+        this.tokens = new byte[rows * cols];
+        Arrays.fill(this.tiles, (byte) TileVariant.WALL.ordinal());
+        Arrays.fill(this.tokens, NO_TOKEN);
+        this.ghostCells = new int[ghosts];
+        this.cellGhosts = new int[rows * cols];
+        this.nextGhosts = new int[ghosts];
+        this.previousGhosts = new int[ghosts];
+        Arrays.fill(this.ghostCells, NO_GHOST);
+        Arrays.fill(this.cellGhosts, NO_GHOST);
+    }
+
+
+    /**
+     * Returns a copy of the board.
+     * @return a copy of the board.
+     * <pre>{@code
+     * Board board = ...;
+     * Board copy = board.copy();
+     * }</pre>
+     */
+    public Board copy()
+    {
+        Board copy = new Board(this.rows, this.cols, this.ghostCells.length);
+        copy.copyFrom(this);
+        return copy;
+    }
+
+
+    /**
+     * Overwrites the board with the given board. Both boards must have the same dimensions and the same amount of
+     * ghosts.
+     * @param other The copied board.
+     * <pre>{@code
+     * Board board = ...;
+     * Board other = ...;
+     * board.copyFrom(other);
+     * }</pre>
+     */
+    public void copyFrom(Board other)
+    {
+        System.arraycopy(other.tiles, 0, this.tiles, 0, this.tiles.length);
+        System.arraycopy(other.tokens, 0, this.tokens, 0, this.tokens.length);
+        System.arraycopy(other.ghostCells, 0, this.ghostCells, 0, this.ghostCells.length);
+        System.arraycopy(other.cellGhosts, 0, this.cellGhosts, 0, this.cellGhosts.length);
+        System.arraycopy(other.nextGhosts, 0, this.nextGhosts, 0, this.nextGhosts.length);
+        System.arraycopy(other.previousGhosts, 0, this.previousGhosts, 0, this.previousGhosts.length);
+        this.playerCell = other.playerCell;
+    }
+
+
+    /**
+     * Returns the amount of rows.
+     * @return the amount of rows.
+     * <pre>{@code
+     * Board board = ...;
+     * int rows = board.getRows();
+     * }</pre>
+     */
+    public int getRows()
+    {
+        return this.rows;
+    }
+
+
+    /**
+     * Returns the amount of columns.
+     * @return the amount of columns.
+     * <pre>{@code
+     * Board board = ...;
+     * int cols = board.getCols();
+     * }</pre>
+     */
+    public int getCols()
+    {
+        return this.cols;
+    }
+
+
+    /**
+     * Returns the amount of cells.
+     * @return the amount of cells.
+     * <pre>{@code
+     * Board board = ...;
+     * int cells = board.getCellCount();
+     * }</pre>
+     */
+    public int getCellCount()
+    {
+        return this.tiles.length;
+    }
+
+
+    /**
+     * Returns the cell id of the specified tile.
+     * @param row The tile's row index.
+     * @param col The tile's column index.
+     * @return the cell id of the specified tile.
+     * <pre>{@code
+     * Board board = ...;
+     * int cell = board.cellOf(10, 5);
+     * }</pre>
+     */
+    public int cellOf(int row, int col)
+    {
+        return row * this.cols + col;
+    }
+
+
+    /**
+     * Returns the row index of the given cell.
+     * @param cell The cell id.
+     * @return the row index of the given cell.
+     * <pre>{@code
+     * Board board = ...;
+     * int row = board.rowOf(215);
+     * }</pre>
+     */
+    public int rowOf(int cell)
+    {
+        return cell / this.cols;
+    }
+
+
+    /**
+     * Returns the column index of the given cell.
+     * @param cell The cell id.
+     * @return the column index of the given cell.
+     * <pre>{@code
+     * Board board = ...;
+     * int col = board.colOf(215);
+     * }</pre>
+     */
+    public int colOf(int cell)
+    {
+        return cell % this.cols;
+    }
+
+
+    /**
+     * Returns the variant of the given cell.
+     * @param cell The cell id.
+     * @return the variant of the given cell.
+     * <pre>{@code
+     * Board board = ...;
+     * TileVariant variant = board.getTile(215);
+     * }</pre>
+     */
+    public TileVariant getTile(int cell)
+    {
+        return TILE_VARIANTS[this.tiles[cell]];
+    }
+
+
+    /**
+     * Checks if the given cell is a wall.
+     * @param cell The cell id.
+     * @return true if the given cell is a wall.
+     * <pre>{@code
+     * Board board = ...;
+     * boolean bool = board.isWall(215);
+     * }</pre>
+     */
+    public boolean isWall(int cell)
+    {
+        return this.tiles[cell] == TileVariant.WALL.ordinal();
+    }
+
+
+    /**
+     * Sets the variant of the given cell.
+     * @param cell The cell id.
+     * @param variant The new variant.
+     * <pre>{@code
+     * Board board = ...;
+     * board.setTile(215, TileVariant.EMPTY);
+     * }</pre>
+     */
+    public void setTile(int cell, TileVariant variant)
+    {
+        this.tiles[cell] = (byte) variant.ordinal();
+    }
+
+
+    /**
+     * Returns the token on the given cell or @link TokenVariants.NONE if there is no token on the cell.
+     * @param cell The cell id.
+     * @return the token on the given cell.
+     * <pre>{@code
+     * Board board = ...;
+     * TokenVariants token = board.getToken(215);
+     * }</pre>
+     */
+    public TokenVariants getToken(int cell)
+    {
+        return TOKEN_VARIANTS[this.tokens[cell]];
+    }
+
+
+    /**
+     * Checks if there is a token on the given cell.
+     * @param cell The cell id.
+     * @return true if there is a token on the given cell.
+     * <pre>{@code
+     * Board board = ...;
+     * boolean bool = board.hasToken(215);
+     * }</pre>
+     */
+    public boolean hasToken(int cell)
+    {
+        return this.tokens[cell] != NO_TOKEN;
+    }
+
+
+    /**
+     * Sets the token on the given cell. @link TokenVariants.NONE removes the token.
+     * @param cell The cell id.
+     * @param token The token.
+     * <pre>{@code
+     * Board board = ...;
+     * board.setToken(215, TokenVariants.BLUE);
+     * }</pre>
+     */
+    public void setToken(int cell, TokenVariants token)
+    {
+        this.tokens[cell] = (byte) token.ordinal();
+    }
+
+
+    /**
+     * Removes the token on the given cell.
+     * @param cell The cell id.
+     * <pre>{@code
+     * Board board = ...;
+     * board.removeToken(215);
+     * }</pre>
+     */
+    public void removeToken(int cell)
+    {
+        this.tokens[cell] = NO_TOKEN;
+    }
+
+
+    /**
+     * Counts the tokens on the board.
+     * @return the amount of tokens on the board.
+     * <pre>{@code
+     * Board board = ...;
+     * int tokens = board.countTokens();
+     * }</pre>
+     */
+    public int countTokens()
+    {
+        int count = 0;
+        for (byte token : this.tokens) if (token != NO_TOKEN) count++;
+        return count;
+    }
+
+
+    /**
+     * Returns the player's cell id.
+     * @return the player's cell id.
+     * <pre>{@code
+     * Board board = ...;
+     * int cell = board.getPlayerCell();
+     * }</pre>
+     */
+    public int getPlayerCell()
+    {
+        return this.playerCell;
+    }
+
+
+    /**
+     * Sets the player's cell id.
+     * @param cell The cell id.
+     * <pre>{@code
+     * Board board = ...;
+     * board.setPlayerCell(215);
+     * }</pre>
+     */
+    public void setPlayerCell(int cell)
+    {
+        this.playerCell = cell;
+    }
+
+
+    /**
+     * Returns the amount of ghosts.
+     * @return the amount of ghosts.
+     * <pre>{@code
+     * Board board = ...;
+     * int ghosts = board.getGhostCount();
+     * }</pre>
+     */
+    public int getGhostCount()
+    {
+        return this.ghostCells.length;
+    }
+
+
+    /**
+     * Returns the specified ghost's cell id.
+     * @param ghost The ghost's index.
+     * @return the specified ghost's cell id.
+     * <pre>{@code
+     * Board board = ...;
+     * int cell = board.getGhostCell(2);
+     * }</pre>
+     */
+    public int getGhostCell(int ghost)
+    {
+        return this.ghostCells[ghost];
+    }
+
+
+    /**
+     * Moves the specified ghost to the given cell. The ghost is unlinked from its previous cell's list and linked
+     * at the head of the new cell's list.
+     * @param ghost The ghost's index.
+     * @param cell The cell id.
+     * <pre>{@code
+     * Board board = ...;
+     * board.setGhostCell(2, 215);
+     * }</pre>
+     */
+    public void setGhostCell(int ghost, int cell)
+    {
+        int previousCell = this.ghostCells[ghost];
+        if (previousCell == cell) return;
+        if (previousCell != NO_GHOST)
+        {
+            int previous = this.previousGhosts[ghost], next = this.nextGhosts[ghost];
+            if (previous == NO_GHOST) this.cellGhosts[previousCell] = next;
+            else this.nextGhosts[previous] = next;
+            if (next != NO_GHOST) this.previousGhosts[next] = previous;
+        }
+        int head = this.cellGhosts[cell];
+        this.previousGhosts[ghost] = NO_GHOST;
+        this.nextGhosts[ghost] = head;
+        if (head != NO_GHOST) this.previousGhosts[head] = ghost;
+        this.cellGhosts[cell] = ghost;
+        this.ghostCells[ghost] = cell;
+    }
+
+
+    /**
+     * Removes all the ghosts from the board.
+     * <pre>{@code
+     * Board board = ...;
+     * board.removeGhosts();
+     * }</pre>
+     */
+    public void removeGhosts()
+    {
+        Arrays.fill(this.ghostCells, NO_GHOST);
+        Arrays.fill(this.cellGhosts, NO_GHOST);
+    }
+
+
+    /**
+     * Returns the first ghost on the given cell.
+     * @param cell The cell id.
+     * @return the first ghost's index or NO_GHOST if there is no ghost on the cell.
+     * <pre>{@code
+     * Board board = ...;
+     * for (int ghost = board.firstGhost(215); ghost != Board.NO_GHOST; ghost = board.nextGhost(ghost)) { ... }
+     * }</pre>
+     */
+    public int firstGhost(int cell)
+    {
+        return this.cellGhosts[cell];
+    }
+
+
+    /**
+     * Returns the next ghost on the same cell as the specified ghost.
+     * @param ghost The ghost's index.
+     * @return the next ghost's index or NO_GHOST if the ghost is the last one on its cell.
+     * <pre>{@code
+     * Board board = ...;
+     * int next = board.nextGhost(2);
+     * }</pre>
+     */
+    public int nextGhost(int ghost)
+    {
+        return this.nextGhosts[ghost];
+    }
+
+
+    /**
+     * Checks if a ghost is on the given cell.
+     * @param cell The cell id.
+     * @return true if a ghost is on the given cell.
+     * <pre>{@code
+     * Board board = ...;
+     * boolean bool = board.hasGhost(215);
+     * }</pre>
+     */
+    public boolean hasGhost(int cell)
+    {
+        return this.cellGhosts[cell] != NO_GHOST;
+    }
+
+
+    /**
+     * Converts a TileVariant[][] board to a Board. Places the ghosts on the ghost-spawns, the player on the spawn and
+     * add random tokens on the empty tiles.
+     * @param board The initial board.
+     * @param ghosts The maximum amount of ghosts.
+     * @param random The random generator used to pick the tokens.
+     * @return a Board.
+     * <pre>{@code
+     * TileVariant[][] generated = ...;
+     * Board board = Board.fromGeneratedBoard(generated, 4, new GameRandom(42));
+     * }</pre>
+     */
+    public static Board fromGeneratedBoard(TileVariant[][] board, int ghosts, GameRandom random)
+    {
+        int spawns = 0;
+        for (TileVariant[] row : board)
+            for (TileVariant tile : row)
+                if (tile == TileVariant.GHOST_SPAWN) spawns++;
+        Board completedBoard = new Board(board.length, board[0].length, Math.min(ghosts, spawns));
+        int ghost = 0;
+        for (int row = 0; row < board.length; row++)
+        {
+            for (int col = 0; col < board[0].length; col++)
+            {
+                int cell = completedBoard.cellOf(row, col);
+                completedBoard.setTile(cell, board[row][col]);
+                switch (board[row][col])
+                {
+                    case SPAWN -> completedBoard.setPlayerCell(cell);
+                    case EMPTY -> completedBoard.setToken(cell, Configs.getRandomToken(random));
+                    case GHOST_SPAWN ->
+                    {
+                        if (ghost < completedBoard.getGhostCount()) completedBoard.setGhostCell(ghost++, cell);
+                    }
+                }
+            }
+        }
+        return completedBoard;
+    }
+}
@@ -3,23 +3,67 @@ package Logic;
 import Components.GhostStates;
 import Components.PacmanStates;
 import Components.TileVariant;
-import Entities.Ghost;
-import Entities.Pacman;
+import Components.TokenVariants;
+import Scenes.BoardCache;
+import Scenes.BoardPool;
 import Scenes.SceneGenerator;
 import Utilities.Configs;
-import Utilities.Tuples.Couple;
+import Utilities.GameRandom;
 import Utilities.Utils;
-import Utilities.Tuples.Triplet;
 
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
 import java.util.*;
-import java.util.List;
 
 
 /**
- * The game class.
+ * The game class. The game only relies on the @link Logic package, so it can run without any UI. Apart from the
+ * shuffles, a game turn allocates no memory : the state is only made of primitives and preallocated arrays.
  */
 public class GameManager
 {
+    /**
+     * The directions, indexed by their ordinal. Cached as values() returns a new array on each call.
+     */
+    private static final Utils.Moving[] DIRECTIONS = Utils.Moving.values();
+
+
+    /**
+     * The saved games' magic number, "PMGS" in ASCII.
+     */
+    public static final int SAVE_MAGIC = 0x504D4753;
+
+
+    /**
+     * The saved games' format version. Must be incremented whenever the format changes.
+     */
+    public static final short SAVE_VERSION = 1;
+
+
+    /**
+     * The amount of changed cells kept by the game, see @link GameManager.getChangedCell. A power of 2.
+     */
+    public static final int CHANGE_LOG_SIZE = 256;
+
+
+    /**
+     * The value saved instead of a direction's ordinal when there is no direction.
+     */
+    private static final byte NO_DIRECTION = -1;
+
+
+    /**
+     * The ghosts' states, indexed by their ordinal.
+     */
+    private static final GhostStates[] GHOST_STATES = GhostStates.values();
+
+
+    /**
+     * The player's states, indexed by their ordinal.
+     */
+    private static final PacmanStates[] PLAYER_STATES = PacmanStates.values();
+
+
     /**
      * Event timer keeping track of any event duration.
      */
@@ -45,117 +89,223 @@ public class GameManager
 
 
     /**
-     * Flag notifying if the board has been shuffled.
+     * The board's version, incremented each time a new board is generated.
+     */
+    private int boardVersion = 0;
+
+
+    /**
+     * The board. Holds the tiles, the tokens and the entities' positions.
      */
-    private Boolean isBoardShuffled = false;
+    private Board board;
 
 
     /**
-     * The board.
+     * The board's topology. Used to move the entities and to check the moves.
      */
-    private Logic.Tile[][] board;
+    private Topology topology;
 
 
     /**
-     * A temporary board used when the main one has been shuffled.
+     * The shuffled boards generated ahead of time.
      */
-    private Logic.Tile[][] tempBoard;
+    private final BoardPool shufflePool;
 
 
     /**
-     * Used to generate boards.
+     * The game's seed. The whole game is reproducible from it.
      */
-    private final SceneGenerator sceneGenerator = new SceneGenerator();
+    private long seed;
 
 
     /**
-     * The player's last coordinates on the board.
+     * Used by the ghosts to decide when and where to change direction.
      */
-    private Couple<Integer, Integer> lastPlayerPosition = null;
+    private final GameRandom random;
 
 
     /**
-     * The class' constructor.
+     * Used to place the tokens on the boards and to remove them when shuffling.
+     */
+    private final GameRandom tokenRandom;
+
+
+    /**
+     * The player.
+     */
+    private Pacman player;
+
+
+    /**
+     * The ghosts. Their positions are stored on the board, indexed like this array.
+     */
+    private Ghost[] ghosts;
+
+
+    /**
+     * The last changed cells, as a ring indexed by the change's number.
+     */
+    private final int[] changedCells = new int[CHANGE_LOG_SIZE];
+
+
+    /**
+     * The amount of cell changes since the game started.
+     */
+    private long changeCount = 0;
+
+
+    /**
+     * The class' constructor. The game is seeded with a random seed : its first board is generated without going
+     * through the shared cache, as it will not be requested again.
      * <pre>{@code
      * GameManager game = new GameManager();
      * }</pre>
      */
     public GameManager()
     {
-        ArrayList<Ghost> ghosts = Utils.generateGhosts();
-        Pacman p = new Pacman();
-        this.board = Logic.Tile.fromGeneratedBoard(sceneGenerator.generateRandomBoard(), ghosts, p);
-        this.setInitialPacmanPosition();
+        this(GameRandom.randomSeed(), Configs.SHUFFLE_POOL_SIZE, false);
+    }
+
+
+    /**
+     * The class' constructor. The boards, the tokens and the ghosts' decisions are all drawn from generators split
+     * from the given seed : two games with the same seed and the same player's moves are identical.
+     * @param seed The game's seed.
+     * <pre>{@code
+     * GameManager game = new GameManager(42);
+     * }</pre>
+     */
+    public GameManager(long seed)
+    {
+        this(seed, Configs.SHUFFLE_POOL_SIZE);
+    }
+
+
+    /**
+     * The class' constructor. The boards, the tokens and the ghosts' decisions are all drawn from generators split
+     * from the given seed : two games with the same seed and the same player's moves are identical, whatever the
+     * shuffle pool's size.
+     * @param seed The game's seed.
+     * @param shufflePoolSize The amount of shuffled boards generated ahead of time. 0 generates them on shuffle.
+     * <pre>{@code
+     * GameManager game = new GameManager(42, 0);
+     * }</pre>
+     */
+    public GameManager(long seed, int shufflePoolSize)
+    {
+        this(seed, shufflePoolSize, true);
+    }
+
+
+    /**
+     * The class' constructor. The boards, the tokens and the ghosts' decisions are all drawn from generators split
+     * from the given seed : two games with the same seed and the same player's moves are identical, whatever the
+     * shuffle pool's size and the cache.
+     * @param seed The game's seed.
+     * @param shufflePoolSize The amount of shuffled boards generated ahead of time. 0 generates them on shuffle.
+     * @param cached True to take the first board from the shared cache (see @link BoardCache), for the seeds played
+     * again such as replays and batches. False generates it directly, for the one-off random seeds.
+     * <pre>{@code
+     * GameManager game = new GameManager(GameRandom.randomSeed(), 0, false);
+     * }</pre>
+     */
+    public GameManager(long seed, int shufflePoolSize, boolean cached)
+    {
+        this.seed = seed;
+        GameRandom root = new GameRandom(seed);
+        long boardSeed = root.nextLong();
+        this.tokenRandom = root.split();
+        this.random = root.split();
+        this.shufflePool = new BoardPool(root.split(), shufflePoolSize);
+        this.newBoard(cached
+            ? BoardCache.getShared().get(boardSeed, Configs.BOARD_WIDTH, Configs.BOARD_HEIGHT)
+            : SceneGenerator.generate(boardSeed, Configs.BOARD_WIDTH, Configs.BOARD_HEIGHT));
         this.countTokens();
     }
 
 
     /**
-     * Shuffles the board. A new board is created and tokens are removed from it util the total count
-     * matches the current board's amount.
+     * The class' constructor. The game starts on the given level (see @link LevelPack), the following boards and the
+     * ghosts' decisions are drawn from the given seed.
+     * @param seed The game's seed.
+     * @param level The first board. Copied, so a level can start several games.
+     * <pre>{@code
+     * GameManager game = new GameManager(42, LevelPack.open(Path.of("levels.pack")).getLevel(7));
+     * }</pre>
+     */
+    public GameManager(long seed, Board level)
+    {
+        this.seed = seed;
+        GameRandom root = new GameRandom(seed);
+        // The board's seed is skipped, so the other generators match the ones of a generated game
+        root.nextLong();
+        this.tokenRandom = root.split();
+        this.random = root.split();
+        this.shufflePool = new BoardPool(root.split(), Configs.SHUFFLE_POOL_SIZE);
+        this.newBoard(level.copy());
+        this.countTokens();
+    }
+
+
+    /**
+     * Shuffles the board. A new board is created and tokens are removed from it until the total count
+     * matches the current board's amount. The new board replaces the current one.
      * <pre>{@code
      * this.shuffleBoard();
      * }</pre>
      */
     private void shuffleBoard()
     {
-        ArrayList<Ghost> ghosts = Utils.generateGhosts();
-        Pacman p = new Pacman();
-        this.tempBoard = Logic.Tile.fromGeneratedBoard(sceneGenerator.generateRandomBoard(), ghosts, p);
+        this.newBoard(this.shufflePool.take());
+        int[] cells = new int[this.board.getCellCount()];
         int tokens = 0;
-        for (Tile[] row : this.tempBoard) for (Tile tile : row) if (tile.getToken() != null) tokens++;
-        Random rd = new Random();
-        int x, y;
-        while (tokens > this.tokensRemaining)
+        for (int cell = 0; cell < cells.length; cell++) if (this.board.hasToken(cell)) cells[tokens++] = cell;
+        int kept = Math.min(tokens, this.tokensRemaining);
+        // Partial Fisher-Yates : only the smallest of both groups (kept or removed tokens) is drawn
+        boolean drawKept = kept <= tokens - kept;
+        int drawn = drawKept ? kept : tokens - kept;
+        for (int i = 0; i < drawn; i++)
         {
-            try
-            {
-                x = rd.nextInt(this.tempBoard.length - 1);
-                y = rd.nextInt(this.tempBoard[0].length - 1);
-            }
-            catch (Exception e) { continue; }
-            if (this.tempBoard[x][y].getToken() != null)
-            {
-                this.tempBoard[x][y].setToken(null);
-                tokens--;
-            }
+            int j = i + this.tokenRandom.nextInt(tokens - i);
+            int cell = cells[i];
+            cells[i] = cells[j];
+            cells[j] = cell;
         }
-        this.setInitialPacmanPosition();
-        this.setBoardShuffled(true);
+        int from = drawKept ? drawn : 0, to = drawKept ? tokens : drawn;
+        for (int i = from; i < to; i++) this.board.removeToken(cells[i]);
+        this.tokensRemaining = kept;
     }
 
 
     /**
-     * Reset the last player position var to the origin.
+     * Builds a new board from the given generated board and places new ghosts and a new player on it.
+     * @param generatedBoard The generated board.
      * <pre>{@code
-     * setInitialPacmanPosition();
+     * this.newBoard(BoardCache.getShared().get(42, 21, 21));
      * }</pre>
      */
-    private void setInitialPacmanPosition()
+    private void newBoard(TileVariant[][] generatedBoard)
     {
-        for (int row = 0; row < this.board.length; row++)
-        {
-            for (int col = 0; col < this.board[row].length; col++)
-            {
-                if (this.board[row][col].getTile().getTileType() == TileVariant.SPAWN)
-                {
-                    this.lastPlayerPosition = new Couple<>(row, col);
-                    return;
-                }
-            }
-        }
+        this.newBoard(Board.fromGeneratedBoard(generatedBoard, Configs.GHOST_COUNT, this.tokenRandom));
     }
 
 
     /**
-     * Switch the current board with the temporary one.
+     * Replaces the board by the given one and places new ghosts and a new player on it.
+     * @param board The new board, owned by the game from now on.
      * <pre>{@code
-     * this.toggleBoard();
+     * this.newBoard(level.copy());
      * }</pre>
      */
-    public void toggleBoard()
+    private void newBoard(Board board)
     {
-        this.board = tempBoard;
+        if (board.getGhostCount() > Configs.GHOST_COUNT) throw new IllegalArgumentException("Too many ghosts on the board");
+        this.board = board;
+        this.topology = new Topology(this.board);
+        this.ghosts = new Ghost[this.board.getGhostCount()];
+        for (int i = 0; i < this.ghosts.length; i++) this.ghosts[i] = new Ghost();
+        this.player = new Pacman();
+        this.boardVersion++;
     }
 
 
@@ -167,83 +317,91 @@ public class GameManager
      */
     private void countTokens()
     {
-        this.tokensRemaining = 0;
-        for(Logic.Tile[] row : this.board)
-            for (Logic.Tile tile : row)
-                if (tile.getToken() != null) this.tokensRemaining++;
+        this.tokensRemaining = this.board.countTokens();
     }
 
 
     /**
-     * Moves the player on the board according the given direction.
-     * @param direction the player's direction.
+     * Updates the game by one turn : the ghosts move, then the player moves following its current direction. The
+     * entities' cells before and after the turn are reported as changed : they hold every moved entity, changed state
+     * and eaten token.
      * <pre>{@code
      * GameManager game = new GameManager();
-     * game.movePlayer(Utils.Moving.UP);
+     * game.tick();
      * }</pre>
      */
-    public void movePlayer(Utils.Moving direction)
+    public void tick()
     {
-        if (direction == Utils.Moving.STILL) return;
-        Triplet<Pacman, Integer, Integer> pacman = null;
-        outer: for (int r = 0; r < this.board.length; r++)
-        {
-            for (int c = 0; c < this.board[r].length; c++)
-            {
-                if (this.board[r][c].getPlayer() != null)
-                {
-                    pacman = new Triplet<>(this.board[r][c].getPlayer(), r, c);
-                    this.board[r][c].setPlayer(null);
-                    break outer;
-                }
-            }
-        }
-        if (pacman == null) return;
-        if (!this.isPlayerDirectionValid(pacman.item2, pacman.item3, direction))
+        this.markEntityCells();
+        this.moveGhosts();
+        Utils.Moving playerDirection = this.getPlayer().getCurrentDirection();
+        this.movePlayer(playerDirection == null ? Utils.Moving.STILL : playerDirection);
+        this.markEntityCells();
+    }
+
+
+    /**
+     * Reports the player's and the ghosts' cells as changed.
+     * <pre>{@code
+     * this.markEntityCells();
+     * }</pre>
+     */
+    private void markEntityCells()
+    {
+        this.markChanged(this.board.getPlayerCell());
+        for (int ghost = 0; ghost < this.ghosts.length; ghost++)
         {
-            pacman.item1.changeDirection(Utils.Moving.STILL);
-            this.board[pacman.item2][pacman.item3].setPlayer(pacman.item1);
-            return;
+            int cell = this.board.getGhostCell(ghost);
+            if (cell != Board.NO_GHOST) this.markChanged(cell);
         }
-        moveOnBoard(pacman, direction);
     }
 
 
     /**
-     * Moves the player on the board according to the validated direction.
-     * @param pacman the player and it's coordinates.
-     * @param direction The direction.
+     * Reports the given cell as changed.
+     * @param cell The cell id.
      * <pre>{@code
-     * Triplet<Pacman, Integer, Integer> pacman = ...;
-     * Utils.Moving direction = Utils.Moving.UP;
-     * moveOnBoard(pacman, direction);
+     * this.markChanged(215);
      * }</pre>
      */
-    private void moveOnBoard(Triplet<Pacman, Integer, Integer> pacman, Utils.Moving direction)
+    private void markChanged(int cell)
     {
-        switch (direction)
+        this.changedCells[(int) (this.changeCount++ & (CHANGE_LOG_SIZE - 1))] = cell;
+    }
+
+
+    /**
+     * Checks if the game is over : the player has no lives left or all the tokens have been eaten.
+     * @return true if the game is over.
+     * <pre>{@code
+     * GameManager game = new GameManager();
+     * boolean bool = game.isGameOver();
+     * }</pre>
+     */
+    public boolean isGameOver()
+    {
+        return this.getLives() <= 0 || this.getRemainingTokens() <= 0;
+    }
+
+
+    /**
+     * Moves the player on the board according the given direction.
+     * @param direction the player's direction.
+     * <pre>{@code
+     * GameManager game = new GameManager();
+     * game.movePlayer(Utils.Moving.UP);
+     * }</pre>
+     */
+    public void movePlayer(Utils.Moving direction)
+    {
+        if (direction == Utils.Moving.STILL) return;
+        int cell = this.board.getPlayerCell();
+        if (!this.isPlayerDirectionValid(this.board.rowOf(cell), this.board.colOf(cell), direction))
         {
-            case UP -> this.applyChanges(
-                pacman.item2,
-                (pacman.item3 - 1 < 0) ? (this.board[pacman.item2].length - 1) : (pacman.item3 - 1),
-                pacman.item1
-            );
-            case DOWN -> this.applyChanges(
-                pacman.item2,
-                (pacman.item3 + 1 >= this.board[pacman.item2].length) ? 0 : (pacman.item3 + 1),
-                pacman.item1
-            );
-            case LEFT -> this.applyChanges(
-                (pacman.item2 - 1) < 0 ? (this.board.length - 1) : (pacman.item2 - 1),
-                pacman.item3,
-                pacman.item1
-            );
-            case RIGHT -> this.applyChanges(
-                (pacman.item2 + 1) >= this.board.length ? 0 : (pacman.item2 + 1),
-                pacman.item3,
-                pacman.item1
-            );
+            this.player.changeDirection(Utils.Moving.STILL);
+            return;
         }
+        this.applyChanges(this.topology.neighbour(cell, direction));
     }
 
 
@@ -257,56 +415,35 @@ public class GameManager
      * int row = 0;
      * int col = 0;
      * Utils.Moving direction = Utils.Moving.UP;
-     * Boolean bool = isPlayerDirectionValid(row, col, direction);
+     * boolean bool = isPlayerDirectionValid(row, col, direction);
      * }</pre>
      */
-    public Boolean isPlayerDirectionValid(int row, int col, Utils.Moving direction)
+    public boolean isPlayerDirectionValid(int row, int col, Utils.Moving direction)
     {
-        if (row < 0 || row >= this.board.length) return false;
-        if (col < 0 || col >= this.board[row].length) return false;
-        return switch (direction)
-        {
-            case STILL -> true;
-            case LEFT -> (row - 1 < 0)
-                ? this.board[this.board.length - 1][col].getTile().getTileType() != TileVariant.WALL
-                : this.board[row - 1][col].getTile().getTileType() != TileVariant.WALL;
-            case RIGHT -> (row + 1 >= this.board.length)
-                ? this.board[0][col].getTile().getTileType() != TileVariant.WALL
-                : this.board[row + 1][col].getTile().getTileType() != TileVariant.WALL;
-            case UP -> (col - 1 < 0)
-                ? this.board[row][this.board[row].length - 1].getTile().getTileType() != TileVariant.WALL
-                : this.board[row][col].getTile().getTileType() != TileVariant.WALL;
-            case DOWN -> (col + 1 >= this.board[row].length)
-                ? this.board[row][this.board[row].length - 1].getTile().getTileType() != TileVariant.WALL
-                : this.board[row][col].getTile().getTileType() != TileVariant.WALL;
-        };
+        if (row < 0 || row >= this.board.getRows()) return false;
+        if (col < 0 || col >= this.board.getCols()) return false;
+        return direction == Utils.Moving.STILL || this.topology.canMove(this.board.cellOf(row, col), direction);
     }
 
 
     /**
      * Applies all changes on the board with the player's and ghosts' new positions.
-     * @param r The row index of the player's position.
-     * @param c The column index of the player's position.
-     * @param player The player.
+     * @param cell The cell id of the player's position. Never a wall : the move was checked by @link
+     * GameManager.movePlayer.
      * <pre>{@code
-     * Pacman player = new Pacman();
-     * this.applyChanges(10, 20, player);
+     * this.applyChanges(215);
      * }</pre>
      */
-    private void applyChanges(int r, int c, Pacman player)
+    private void applyChanges(int cell)
     {
         if (this.eventTimer > 0) this.eventTimer--;
-        if (this.board[r][c].getTile().getTileType() == TileVariant.WALL)
-            this.board[this.lastPlayerPosition.item1][this.lastPlayerPosition.item2].setPlayer(player);
-        else
-        {
-            this.board[r][c].setPlayer(player);
-            this.lastPlayerPosition = new Couple<Integer, Integer>(r, c);
-        }
-        if (this.board[r][c].getToken() != null)
+        this.board.setPlayerCell(cell);
+        if (this.board.hasToken(cell))
         {
-            this.score += Utils.getTokenScore(this.board[r][c].getToken().getToken());
-            switch (this.board[r][c].getToken().getToken())
+            TokenVariants token = this.board.getToken(cell);
+            this.board.removeToken(cell);
+            this.score += Utils.getTokenScore(token);
+            switch (token)
             {
                 case GREEN ->
                 {
@@ -330,12 +467,12 @@ public class GameManager
             }
             this.tokensRemaining--;
         }
-        Ghost ghost;
-        if (this.board[r][c].getGhost() != null)
-            if (player.getState() == PacmanStates.Normal) this.playerLostLives++;
-            else if (player.getState() == PacmanStates.Super)
-                while((ghost = this.board[r][c].popGhost()) != null)
-                    this.board[this.board.length / 2][this.board[0].length / 2].addGhost(ghost);
+        int center = this.board.cellOf(this.board.getRows() / 2, this.board.getCols() / 2);
+        if (this.board.hasGhost(cell))
+            if (this.player.getState() == PacmanStates.Normal) this.playerLostLives++;
+            else if (this.player.getState() == PacmanStates.Super && cell != center)
+                for (int ghost = this.board.firstGhost(cell); ghost != Board.NO_GHOST; ghost = this.board.firstGhost(cell))
+                    this.board.setGhostCell(ghost, center);
 
         if (this.eventTimer <= 0)
         {
@@ -354,9 +491,7 @@ public class GameManager
      */
     private void changeGhostsStates(GhostStates state)
     {
-        for (Logic.Tile[] row : this.board)
-            for (Logic.Tile tile : row)
-                for (Ghost ghost : tile.getGhosts()) ghost.changeState(state);
+        for (Ghost ghost : this.ghosts) ghost.changeState(state);
     }
 
 
@@ -369,13 +504,7 @@ public class GameManager
      */
     private void changePlayerState(PacmanStates state)
     {
-        outer: for (Logic.Tile[] row : this.board)
-        for (Logic.Tile tile : row)
-        if (tile.getPlayer() != null)
-        {
-            tile.getPlayer().changeState(state);
-            break outer;
-        }
+        this.player.changeState(state);
     }
 
 
@@ -389,25 +518,19 @@ public class GameManager
      */
     public void moveGhosts()
     {
-        ArrayList<Triplet<Ghost, Integer, Integer>> ghosts = new ArrayList<>();
-        Ghost ghost;
-        for (int r = 0; r < this.board.length; r++)
-            for (int c = 0; c < this.board[r].length; c++)
-                while((ghost = this.board[r][c].popGhost()) != null)
-                    ghosts.add(new Triplet<>(ghost, r, c));
-
-        for (Triplet<Ghost, Integer, Integer> tuple: ghosts)
+        for (int i = 0; i < this.ghosts.length; i++)
         {
-            if (tuple.item1.getIsFrozen())
+            Ghost ghost = this.ghosts[i];
+            int cell = this.board.getGhostCell(i);
+            if (ghost.getIsFrozen())
             {
-                tuple.item1.toggleIsFrozen();
-                this.board[tuple.item2][tuple.item3].addGhost(tuple.item1);
+                ghost.toggleIsFrozen();
                 continue;
             }
-            if (!this.canContinueMoving(tuple.item2, tuple.item3, tuple.item1) || Utils.changeDirection())
-                tuple.item1.setDirection(this.newDirection(tuple.item2, tuple.item3, tuple.item1.getDirection()));
-            this.moveGhost(tuple.item2, tuple.item3, tuple.item1);
-            if (tuple.item1.getState() == GhostStates.Afraid) tuple.item1.toggleIsFrozen();
+            if (!this.canContinueMoving(cell, ghost) || Utils.changeDirection(this.random))
+                ghost.setDirection(this.newDirection(cell, ghost.getDirection()));
+            this.board.setGhostCell(i, this.topology.neighbour(cell, ghost.getDirection()));
+            if (ghost.getState() == GhostStates.Afraid) ghost.toggleIsFrozen();
         }
     }
 
@@ -418,44 +541,34 @@ public class GameManager
      * @return true if the player can move following the given direction.
      * <pre>{@code
      * GameManager game = new GameManager();
-     * Boolean bool = game.canPlayerMove(Utils.Moving.LEFT);
+     * boolean bool = game.canPlayerMove(Utils.Moving.LEFT);
      * }</pre>
      */
-    public Boolean canPlayerMove(Utils.Moving direction)
+    public boolean canPlayerMove(Utils.Moving direction)
     {
-        int r = -1, c = -1;
-        outer: for(int row = 0; row < this.board.length; row++)
-        for (int col = 0; col < this.board[row].length; col++)
-        if (this.board[row][col].getPlayer() != null)
-        {
-            r = row;
-            c = col;
-            break outer;
-        }
-        return isDirectionValid(r, c, direction);
+        return isDirectionValid(this.board.getPlayerCell(), direction);
     }
 
 
     /**
      * Checks if the ghost given can continue moving following its current direction from the tile specified.
-     * @param r The specified tile's row index.
-     * @param c The specified tile's row index.
+     * @param cell The specified tile's cell id.
      * @param ghost The ghost.
      * @return true if the ghost given can continue moving following its current direction from the tile specified.
      * <pre>{@code
      * Ghost ghost = new Ghost();
-     * Boolean bool = this.canContinueMoving(10, 5, ghost);
+     * boolean bool = this.canContinueMoving(215, ghost);
      * }</pre>
      */
-    private Boolean canContinueMoving(int r, int c, Ghost ghost)
+    private boolean canContinueMoving(int cell, Ghost ghost)
     {
-        return isDirectionValid(r, c, ghost.getDirection());
+        return isDirectionValid(cell, ghost.getDirection());
     }
 
 
     /**
-     * Extracts the player form the board and returns it.
-     * @return The extracted player.
+     * Returns the player.
+     * @return The player.
      * <pre>{@code
      * GameManager game = new GameManager();
      * Pacman player = game.getPlayer();
@@ -463,131 +576,84 @@ public class GameManager
      */
     public Pacman getPlayer()
     {
-        for (Tile[] row : this.board)
-            for (Tile tile : row)
-                if (tile.getPlayer() != null) return tile.getPlayer();
-        return null;
+        return this.player;
     }
 
 
     /**
      * Checks if the given direction is valid from the specified tile.
-     * @param r The specified tile's row index.
-     * @param c The specified tile's column index.
+     * @param cell The specified tile's cell id.
      * @param direction The given direction.
      * @return true if the given direction is valid from the specified tile.
      * <pre>{@code
-     * Boolean bool = this.isDirectionValid(10, 5, Utils.Moving.RIGHT);
+     * boolean bool = this.isDirectionValid(215, Utils.Moving.RIGHT);
      * }</pre>
      */
-    private Boolean isDirectionValid(int r, int c, Utils.Moving direction)
+    private boolean isDirectionValid(int cell, Utils.Moving direction)
     {
-        int row = r, col = c;
-        switch (direction)
-        {
-            case STILL -> { return false; }
-            case LEFT -> row = (r - 1 < 0) ? (board.length - 1) : (r - 1);
-            case RIGHT -> row = (r + 1 >= board.length) ? 0 : (r + 1);
-            case UP -> col = (c - 1 < 0) ? (board[r].length - 1) : (c - 1);
-            case DOWN -> col = (c + 1 >= board[r].length) ? 0 : (c + 1);
-        };
-        return board[row][col].getTile().getTileType() != TileVariant.WALL;
+        return this.topology.canMove(cell, direction);
     }
 
 
     /**
-     * Moves the given ghost from the specified tile following its direction.
-     * @param r The specified tile's row index.
-     * @param c The specified tile's column index.
-     * @param ghost The ghost.
+     * Selects a new direction for a ghost. The direction is randomly picked among the legal moves, the last
+     * direction excluded.
+     * @param cell The specified tile's cell id.
+     * @param lastDirection The last direction.
+     * @return a new direction.
      * <pre>{@code
-     * Ghost ghost = new Ghost();
-     * this.moveGhost(10, 5, ghost);
+     * Utils.Moving direction = this.newDirection(215, Utils.Moving.DOWN);
      * }</pre>
      */
-    private void moveGhost(int r, int c, Ghost ghost)
+    private Utils.Moving newDirection(int cell, Utils.Moving lastDirection)
     {
-        switch (ghost.getDirection())
-        {
-            case LEFT -> this.board[(r - 1 < 0) ? (this.board.length - 1) : (r - 1)][c].addGhost(ghost);
-            case RIGHT -> this.board[(r + 1 >= this.board.length) ? 0 : (r + 1)][c].addGhost(ghost);
-            case UP -> this.board[r][(c - 1 < 0) ? (this.board[r].length - 1) : (c - 1)].addGhost(ghost);
-            case DOWN -> this.board[r][(c + 1 >= this.board[r].length) ? 0 : (c + 1)].addGhost(ghost);
-            case STILL ->
-            {
-                r = (r < 0) ? (this.board.length - 1) : (r >= this.board.length) ? 0 : r;
-                c = (c < 0) ? (this.board[r].length - 1) : (c >= this.board[r].length) ? 0 : c;
-                this.board[r][c].addGhost(ghost);
-            }
-        }
+        if (lastDirection == Utils.Moving.STILL) return lastDirection;
+        int mask = this.topology.legalMask(cell) & ~(1 << lastDirection.ordinal());
+        if (mask == 0) return Utils.Moving.STILL;
+        for (int skip = this.random.nextInt(Integer.bitCount(mask)); skip > 0; skip--) mask &= mask - 1;
+        return DIRECTIONS[Integer.numberOfTrailingZeros(mask)];
     }
 
 
     /**
-     * Selects a new direction for a ghost.
-     * @param r The specified tile's row index.
-     * @param c The specified tile's column index.
-     * @param lastDirection The last direction.
-     * @return a new direction.
+     * Returns the board.
+     * @return the board.
      * <pre>{@code
-     * Utils.Moving direction = this.newDirection(10, 5, Utils.Moving.DOWN);
+     * GameManager game = new GameManager();
+     * Board board = game.getBoard();
      * }</pre>
      */
-    private Utils.Moving newDirection(int r, int c, Utils.Moving lastDirection)
+    public Board getBoard()
     {
-        if (lastDirection == Utils.Moving.STILL) return lastDirection;
-        Utils.Moving[] directions = new Utils.Moving[]
-        {
-            Utils.Moving.UP, Utils.Moving.RIGHT, Utils.Moving.DOWN, Utils.Moving.LEFT
-        };
-        List<Utils.Moving> temp = Arrays.asList(directions);
-        Collections.shuffle(temp);
-        temp.toArray(directions);
-
-        for (Utils.Moving direction: directions)
-        {
-            if (direction == lastDirection) continue;
-            if (direction == Utils.Moving.RIGHT && this.tileValidForMovement(r + 1, c))
-                return Utils.Moving.RIGHT;
-            if (direction == Utils.Moving.LEFT && this.tileValidForMovement(r - 1, c))
-                return Utils.Moving.LEFT;
-            if (direction == Utils.Moving.UP && this.tileValidForMovement(r, c - 1))
-                return Utils.Moving.UP;
-            if (direction == Utils.Moving.DOWN && this.tileValidForMovement(r, c + 1))
-                return Utils.Moving.DOWN;
-        }
-        return Utils.Moving.STILL;
+        return this.board;
     }
 
 
     /**
-     * Checks if the specified tile is valid.
-     * @param r The specified tile's row index.
-     * @param c The specified tile's column index.
-     * @return true if the specified tile is valid.
+     * Returns the ghosts, indexed like their positions on the board.
+     * @return the ghosts.
      * <pre>{@code
-     * Boolean bool = this.tileValidForMovement(10, 5);
+     * GameManager game = new GameManager();
+     * Ghost[] ghosts = game.getGhosts();
      * }</pre>
      */
-    private Boolean tileValidForMovement(int r, int c)
+    public Ghost[] getGhosts()
     {
-        if (r < 0 || r >= this.board.length) return false;
-        return c >= 0 && c < this.board[r].length &&
-            this.board[r][c].getTile().getTileType() != TileVariant.WALL;
+        return this.ghosts;
     }
 
 
     /**
-     * Returns the board.
-     * @return the board.
+     * Returns the game's seed.
+     * @return the game's seed.
      * <pre>{@code
      * GameManager game = new GameManager();
-     * Tile[][] board = game.getBoard();
+     * long seed = game.getSeed();
      * }</pre>
      */
-    public Tile[][] getBoard()
+    public long getSeed()
     {
-        return this.board;
+        return this.seed;
     }
 
 
@@ -634,28 +700,250 @@ public class GameManager
 
 
     /**
-     * Indicates if the board has been shuffled.
-     * @return true if the board has been shuffled.
+     * Returns the board's version. The version changes each time the board is shuffled, the renderers use it to know
+     * when to rebuild the tiles.
+     * @return the board's version.
+     * <pre>{@code
+     * GameManager game = new GameManager();
+     * int version = game.getBoardVersion();
+     * }</pre>
+     */
+    public int getBoardVersion()
+    {
+        return this.boardVersion;
+    }
+
+
+    /**
+     * Returns the size of the game's save in bytes, see @link GameManager.save.
+     * @return the size of the game's save in bytes.
+     * <pre>{@code
+     * ByteBuffer buffer = ByteBuffer.allocate(game.getSaveSize());
+     * }</pre>
+     */
+    public int getSaveSize()
+    {
+        return 64 + LevelFormat.sizeOf(this.board) + 8 * this.ghosts.length;
+    }
+
+
+    /**
+     * Saves the whole game at the buffer's position : a game restored from the save plays exactly like this one. The
+     * buffer's position is moved after the save. Saving does not allocate. All values are big-endian.
+     * <ul>
+     *     <li>Header (64 bytes) : magic <code>PMGS</code> (int), version (short), reserved (short), seed (long), the
+     *     ghosts' generator (long), the tokens' generator (long), the shuffle pool's seeds (long), event timer (int),
+     *     score (int), lost lives (int), remaining tokens (int), board's version (int), player's direction (byte, -1
+     *     for none), player's state (byte), reserved (short).</li>
+     *     <li>The board, as a level (see @link LevelFormat).</li>
+     *     <li>For each ghost : direction (byte), state (byte), frozen (byte), reserved (byte).</li>
+     *     <li>The ghosts in the order they were placed on their cells : index (int), then the other ghosts.</li>
+     * </ul>
+     * @param buffer The buffer. Must have @link GameManager.getSaveSize bytes remaining.
+     * <pre>{@code
+     * ByteBuffer buffer = ByteBuffer.allocate(game.getSaveSize());
+     * game.save(buffer);
+     * }</pre>
+     */
+    public void save(ByteBuffer buffer)
+    {
+        buffer.putInt(SAVE_MAGIC);
+        buffer.putShort(SAVE_VERSION);
+        buffer.putShort((short) 0);
+        buffer.putLong(this.seed);
+        buffer.putLong(this.random.getState());
+        buffer.putLong(this.tokenRandom.getState());
+        buffer.putLong(this.shufflePool.getSeedState());
+        buffer.putInt(this.eventTimer);
+        buffer.putInt(this.score);
+        buffer.putInt(this.playerLostLives);
+        buffer.putInt(this.tokensRemaining);
+        buffer.putInt(this.boardVersion);
+        Utils.Moving playerDirection = this.player.getCurrentDirection();
+        buffer.put(playerDirection == null ? NO_DIRECTION : (byte) playerDirection.ordinal());
+        buffer.put((byte) this.player.getState().ordinal());
+        buffer.putShort((short) 0);
+        LevelFormat.write(this.board, buffer);
+        for (Ghost ghost : this.ghosts)
+        {
+            buffer.put((byte) ghost.getDirection().ordinal());
+            buffer.put((byte) ghost.getState().ordinal());
+            buffer.put((byte) (ghost.getIsFrozen() ? 1 : 0));
+            buffer.put((byte) 0);
+        }
+        // The cells' lists of ghosts are written tail first, so that placing the ghosts in this order rebuilds them
+        for (int ghost = 0; ghost < this.ghosts.length; ghost++)
+        {
+            int cell = this.board.getGhostCell(ghost);
+            if (cell == Board.NO_GHOST || this.board.firstGhost(cell) != ghost) continue;
+            int end = buffer.position();
+            for (int other = ghost; other != Board.NO_GHOST; other = this.board.nextGhost(other)) end += 4;
+            for (int other = ghost, at = end; other != Board.NO_GHOST; other = this.board.nextGhost(other))
+                buffer.putInt(at -= 4, other);
+            buffer.position(end);
+        }
+        for (int ghost = 0; ghost < this.ghosts.length; ghost++)
+            if (this.board.getGhostCell(ghost) == Board.NO_GHOST) buffer.putInt(ghost);
+    }
+
+
+    /**
+     * Restores the game saved at the buffer's position (see @link GameManager.save), replacing this game's whole
+     * state. The buffer's position is moved after the save. The saved board is decoded into a new board and the ghosts
+     * are reused when the saved game has as many. The game is only changed once the whole save is checked.
+     * @param buffer The buffer.
+     * @throws IllegalArgumentException if the buffer does not hold a valid save. The game is then left unchanged.
+     * <pre>{@code
+     * buffer.flip();
+     * game.restore(buffer);
+     * }</pre>
+     */
+    public void restore(ByteBuffer buffer)
+    {
+        try
+        {
+            if (buffer.getInt() != SAVE_MAGIC) throw new IllegalArgumentException("Not a saved game");
+            short version = buffer.getShort();
+            if (version != SAVE_VERSION) throw new IllegalArgumentException("Unsupported saved game version " + version);
+            buffer.getShort();
+            long seed = buffer.getLong(), randomState = buffer.getLong(), tokenState = buffer.getLong();
+            long poolState = buffer.getLong();
+            int eventTimer = buffer.getInt(), score = buffer.getInt(), lostLives = buffer.getInt();
+            int tokensRemaining = buffer.getInt(), boardVersion = buffer.getInt();
+            Utils.Moving playerDirection = direction(buffer.get(), true);
+            PacmanStates playerState = PLAYER_STATES[ordinal(buffer.get(), PLAYER_STATES.length)];
+            buffer.getShort();
+            // The board is decoded into a new one and the ghosts' section is checked before any ghost is changed
+            Board board = LevelFormat.read(buffer);
+            int count = board.getGhostCount(), ghostsStart = buffer.position();
+            for (int i = 0; i < count; i++)
+            {
+                direction(buffer.get(), false);
+                ordinal(buffer.get(), GHOST_STATES.length);
+                buffer.getShort();
+            }
+            boolean[] placed = new boolean[count];
+            for (int i = 0; i < count; i++)
+            {
+                int ghost = ordinal(buffer.getInt(), count);
+                if (placed[ghost]) throw new IllegalArgumentException("Ghost " + ghost + " placed twice");
+                placed[ghost] = true;
+            }
+            buffer.position(ghostsStart);
+
+            Ghost[] ghosts = this.ghosts.length == count ? this.ghosts : new Ghost[count];
+            for (int i = 0; i < count; i++)
+            {
+                if (ghosts[i] == null) ghosts[i] = new Ghost();
+                ghosts[i].setDirection(direction(buffer.get(), false));
+                ghosts[i].changeState(GHOST_STATES[buffer.get()]);
+                if (ghosts[i].getIsFrozen() != (buffer.get() != 0)) ghosts[i].toggleIsFrozen();
+                buffer.get();
+            }
+            int[] cells = new int[count];
+            for (int ghost = 0; ghost < count; ghost++) cells[ghost] = board.getGhostCell(ghost);
+            board.removeGhosts();
+            for (int i = 0; i < count; i++)
+            {
+                int ghost = buffer.getInt();
+                board.setGhostCell(ghost, cells[ghost]);
+            }
+
+            this.seed = seed;
+            this.random.setState(randomState);
+            this.tokenRandom.setState(tokenState);
+            this.shufflePool.setSeedState(poolState);
+            this.eventTimer = eventTimer;
+            this.score = score;
+            this.playerLostLives = lostLives;
+            this.tokensRemaining = tokensRemaining;
+            this.boardVersion = boardVersion;
+            this.player.changeDirection(playerDirection);
+            this.player.changeState(playerState);
+            this.board = board;
+            this.topology = new Topology(board);
+            this.ghosts = ghosts;
+            // Skips a whole log of changes : the renderers cannot follow the changes and repaint the whole board
+            this.changeCount += CHANGE_LOG_SIZE + 1;
+        }
+        catch (BufferUnderflowException e) { throw new IllegalArgumentException("Truncated saved game", e); }
+    }
+
+
+    /**
+     * Checks the given saved ordinal.
+     * @param ordinal The saved ordinal.
+     * @param count The amount of values.
+     * @return the ordinal.
+     * @throws IllegalArgumentException if the ordinal is out of range.
+     * <pre>{@code
+     * int ghost = ordinal(buffer.getInt(), this.ghosts.length);
+     * }</pre>
+     */
+    private static int ordinal(int ordinal, int count)
+    {
+        if (ordinal < 0 || ordinal >= count) throw new IllegalArgumentException("Invalid saved value " + ordinal);
+        return ordinal;
+    }
+
+
+    /**
+     * Returns the direction of the given saved ordinal.
+     * @param ordinal The saved ordinal.
+     * @param nullable True if the direction may be missing.
+     * @return the direction, null if it is missing.
+     * @throws IllegalArgumentException if the ordinal is not a direction's one.
+     * <pre>{@code
+     * Utils.Moving direction = direction(buffer.get(), true);
+     * }</pre>
+     */
+    private static Utils.Moving direction(byte ordinal, boolean nullable)
+    {
+        if (nullable && ordinal == NO_DIRECTION) return null;
+        return DIRECTIONS[ordinal(ordinal, DIRECTIONS.length)];
+    }
+
+
+    /**
+     * Returns the amount of cell changes since the game started. The renderers compare it with the amount they last
+     * displayed to repaint only the changed cells.
+     * @return the amount of cell changes.
      * <pre>{@code
      * GameManager game = new GameManager();
-     * Boolean bool = game.getBoardShuffled();
+     * long changes = game.getChangeCount();
      * }</pre>
      */
-    public Boolean getBoardShuffled()
+    public long getChangeCount()
     {
-        return isBoardShuffled;
+        return this.changeCount;
     }
 
 
     /**
-     * Set the shuffled-board flag to the given value.
-     * @param boardShuffled The new value.
+     * Returns the given changed cell. Only the last @link GameManager.CHANGE_LOG_SIZE changes are kept. A cell may be
+     * reported several times.
+     * @param change The change's number, between getChangeCount() - CHANGE_LOG_SIZE and getChangeCount() - 1.
+     * @return the changed cell's id.
      * <pre>{@code
-     * this.setBoardShuffled(true);
+     * int cell = game.getChangedCell(game.getChangeCount() - 1);
+     * }</pre>
+     */
+    public int getChangedCell(long change)
+    {
+        return this.changedCells[(int) (change & (CHANGE_LOG_SIZE - 1))];
+    }
+
+
+    /**
+     * Returns the pool of shuffled boards, to read its metrics.
+     * @return the pool of shuffled boards.
+     * <pre>{@code
+     * GameManager game = new GameManager();
+     * long misses = game.getShufflePool().getMisses();
      * }</pre>
      */
-    public void setBoardShuffled(Boolean boardShuffled)
+    public BoardPool getShufflePool()
     {
-        this.isBoardShuffled = boardShuffled;
+        return this.shufflePool;
     }
 }
@@ -0,0 +1,276 @@
+package Logic;
+
+import Components.GhostStates;
+import Components.PacmanStates;
+
+
+/**
+ * A copy of the displayed state of a game : the board, the entities' states and the counters. A snapshot is written
+ * by the simulation thread and read by the renderer, they never access the same snapshot at the same time (see
+ * @link SnapshotBuffer). Its arrays are reused from one capture to the next, so capturing a game does not allocate
+ * unless the board's dimensions change.
+ */
+public final class GameSnapshot
+{
+    /**
+     * The snapshot's sequence number. 0 until the first capture.
+     */
+    private volatile long sequence = 0;
+
+
+    /**
+     * The game the snapshot was captured from. Only used to detect a new game.
+     */
+    private GameManager game;
+
+
+    /**
+     * The board's version, see @link GameManager.getBoardVersion.
+     */
+    private int boardVersion;
+
+
+    /**
+     * A copy of the game's board.
+     */
+    private Board board;
+
+
+    /**
+     * The game's score.
+     */
+    private int score;
+
+
+    /**
+     * The player's lives remaining.
+     */
+    private int lives;
+
+
+    /**
+     * The board's tokens remaining.
+     */
+    private int remainingTokens;
+
+
+    /**
+     * True if the game is over.
+     */
+    private boolean gameOver;
+
+
+    /**
+     * The player's state.
+     */
+    private PacmanStates playerState;
+
+
+    /**
+     * The ghosts' states, indexed like the board's ghosts.
+     */
+    private GhostStates[] ghostStates = new GhostStates[0];
+
+
+    /**
+     * The game's amount of cell changes.
+     */
+    private long changeCount;
+
+
+    /**
+     * The game's last changed cells, see @link GameManager.getChangedCell.
+     */
+    private final int[] changedCells = new int[GameManager.CHANGE_LOG_SIZE];
+
+
+    /**
+     * Overwrites the snapshot with the state of the given game.
+     * @param game The game.
+     * @param sequence The snapshot's sequence number.
+     * <pre>{@code
+     * GameSnapshot snapshot = new GameSnapshot();
+     * snapshot.capture(new GameManager(), 1);
+     * }</pre>
+     */
+    void capture(GameManager game, long sequence)
+    {
+        Board board = game.getBoard();
+        if (this.board == null || this.board.getRows() != board.getRows() || this.board.getCols() != board.getCols()
+            || this.board.getGhostCount() != board.getGhostCount()) this.board = board.copy();
+        else this.board.copyFrom(board);
+        Ghost[] ghosts = game.getGhosts();
+        if (this.ghostStates.length != ghosts.length) this.ghostStates = new GhostStates[ghosts.length];
+        for (int i = 0; i < ghosts.length; i++) this.ghostStates[i] = ghosts[i].getState();
+        this.game = game;
+        this.boardVersion = game.getBoardVersion();
+        this.score = game.getScore();
+        this.lives = game.getLives();
+        this.remainingTokens = game.getRemainingTokens();
+        this.gameOver = game.isGameOver();
+        this.playerState = game.getPlayer().getState();
+        this.changeCount = game.getChangeCount();
+        for (long change = Math.max(0, this.changeCount - this.changedCells.length); change < this.changeCount; change++)
+            this.changedCells[(int) (change & (this.changedCells.length - 1))] = game.getChangedCell(change);
+        this.sequence = sequence;
+    }
+
+
+    /**
+     * Returns the snapshot's sequence number. The higher, the more recent.
+     * @return the snapshot's sequence number, 0 if nothing has been captured yet.
+     * <pre>{@code
+     * long sequence = snapshot.getSequence();
+     * }</pre>
+     */
+    public long getSequence()
+    {
+        return this.sequence;
+    }
+
+
+    /**
+     * Returns the game the snapshot was captured from. Only its identity may be used, to detect a new game : the
+     * game is being modified by the simulation thread.
+     * @return the game the snapshot was captured from.
+     * <pre>{@code
+     * boolean bool = snapshot.getGame() == game;
+     * }</pre>
+     */
+    public GameManager getGame()
+    {
+        return this.game;
+    }
+
+
+    /**
+     * Returns the board's version.
+     * @return the board's version.
+     * <pre>{@code
+     * int version = snapshot.getBoardVersion();
+     * }</pre>
+     */
+    public int getBoardVersion()
+    {
+        return this.boardVersion;
+    }
+
+
+    /**
+     * Returns the copy of the game's board. It must not be modified.
+     * @return the copy of the game's board.
+     * <pre>{@code
+     * Board board = snapshot.getBoard();
+     * }</pre>
+     */
+    public Board getBoard()
+    {
+        return this.board;
+    }
+
+
+    /**
+     * Returns the game's score.
+     * @return the game's score.
+     * <pre>{@code
+     * int score = snapshot.getScore();
+     * }</pre>
+     */
+    public int getScore()
+    {
+        return this.score;
+    }
+
+
+    /**
+     * Returns the player's lives remaining.
+     * @return the player's lives remaining.
+     * <pre>{@code
+     * int lives = snapshot.getLives();
+     * }</pre>
+     */
+    public int getLives()
+    {
+        return this.lives;
+    }
+
+
+    /**
+     * Returns the board's tokens remaining.
+     * @return the board's tokens remaining.
+     * <pre>{@code
+     * int tokens = snapshot.getRemainingTokens();
+     * }</pre>
+     */
+    public int getRemainingTokens()
+    {
+        return this.remainingTokens;
+    }
+
+
+    /**
+     * Checks if the game is over.
+     * @return true if the game is over.
+     * <pre>{@code
+     * boolean bool = snapshot.isGameOver();
+     * }</pre>
+     */
+    public boolean isGameOver()
+    {
+        return this.gameOver;
+    }
+
+
+    /**
+     * Returns the player's state.
+     * @return the player's state.
+     * <pre>{@code
+     * PacmanStates state = snapshot.getPlayerState();
+     * }</pre>
+     */
+    public PacmanStates getPlayerState()
+    {
+        return this.playerState;
+    }
+
+
+    /**
+     * Returns the given ghost's state.
+     * @param ghost The ghost's index.
+     * @return the given ghost's state.
+     * <pre>{@code
+     * GhostStates state = snapshot.getGhostState(0);
+     * }</pre>
+     */
+    public GhostStates getGhostState(int ghost)
+    {
+        return this.ghostStates[ghost];
+    }
+
+
+    /**
+     * Returns the game's amount of cell changes.
+     * @return the amount of cell changes.
+     * <pre>{@code
+     * long changes = snapshot.getChangeCount();
+     * }</pre>
+     */
+    public long getChangeCount()
+    {
+        return this.changeCount;
+    }
+
+
+    /**
+     * Returns the given changed cell, see @link GameManager.getChangedCell.
+     * @param change The change's number.
+     * @return the changed cell's id.
+     * <pre>{@code
+     * int cell = snapshot.getChangedCell(snapshot.getChangeCount() - 1);
+     * }</pre>
+     */
+    public int getChangedCell(long change)
+    {
+        return this.changedCells[(int) (change & (this.changedCells.length - 1))];
+    }
+}
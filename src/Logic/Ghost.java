@@ -0,0 +1,120 @@
+package Logic;
+
+import Components.GhostStates;
+import Utilities.Utils;
+
+
+/**
+ * The ghost class. Holds the ghost's state, it is drawn by @link Views.BoardView.
+ */
+public class Ghost
+{
+    /**
+     * The ghost's current direction.
+     */
+    private Utils.Moving direction = Utils.Moving.UP;
+
+
+    /**
+     * The ghost's current state.
+     */
+    private GhostStates state = GhostStates.Normal;
+
+
+    /**
+     * Indicates if the ghost is frozen. Flag used under the Afraid state.
+     */
+    private boolean isFrozen = false;
+
+
+    /**
+     * The class constructor.
+     * <pre>{@code
+     * Logic.Ghost ghost = new Logic.Ghost();
+     * }</pre>
+     */
+    public Ghost() {}
+
+
+    /**
+     * Returns the ghost's current direction.
+     * @return the ghost's current direction.
+     * <pre>{@code
+     * Logic.Ghost ghost = new Logic.Ghost();
+     * Utils.Moving direction = ghost.getDirection();
+     * }</pre>
+     */
+    public Utils.Moving getDirection()
+    {
+        return this.direction;
+    }
+
+
+    /**
+     * Sets a new direction.
+     * @param newDirection The new direction.
+     * <pre>{@code
+     * Logic.Ghost ghost = new Logic.Ghost();
+     * ghost.setDirection(Utils.Moving.UP);
+     * }</pre>
+     */
+    public void setDirection(Utils.Moving newDirection)
+    {
+        this.direction = newDirection;
+    }
+
+
+    /**
+     * Sets a new state.
+     * @param state The new state.
+     * <pre>{@code
+     * Logic.Ghost ghost = new Logic.Ghost();
+     * ghost.changeState(GhostStates.Afraid);
+     * }</pre>
+     */
+    public void changeState(GhostStates state)
+    {
+        this.state = state;
+    }
+
+
+    /**
+     * Returns the ghost's current state.
+     * @return the ghost's current state.
+     * <pre>{@code
+     * Logic.Ghost ghost = new Logic.Ghost();
+     * GhostStates state = ghost.getState();
+     * }</pre>
+     */
+    public GhostStates getState()
+    {
+        return this.state;
+    }
+
+
+    /**
+     * Returns true if the ghost is frozen.
+     * @return true if the ghost is frozen.
+     * <pre>{@code
+     * Logic.Ghost ghost = new Logic.Ghost();
+     * boolean bool = ghost.getIsFrozen();
+     * }</pre>
+     */
+    public boolean getIsFrozen()
+    {
+        return this.isFrozen;
+    }
+
+
+    /**
+     * Toggles the ghost's frozen flag.
+     * <pre>{@code
+     * Logic.Ghost ghost = new Logic.Ghost();
+     * ghost.toggleIsFrozen();
+     * }</pre>
+     */
+    public void toggleIsFrozen()
+    {
+        this.isFrozen = !this.isFrozen;
+    }
+}
@@ -0,0 +1,242 @@
+package Logic;
+
+import Components.TileVariant;
+import Components.TokenVariants;
+
+import java.nio.ByteBuffer;
+
+
+/**
+ * The binary format of a level : a board ready to be played. All values are big-endian.
+ * <ul>
+ *     <li>Header (12 bytes) : magic <code>PMLV</code> (int), version (short), rows (short), columns (short), amount
+ *     of ghosts (byte), reserved (byte).</li>
+ *     <li>Spawns : the player's cell (int), then each ghost's cell (int).</li>
+ *     <li>Tiles : 2 bits per cell (the @link TileVariant ordinal), 4 cells per byte, the first cell in the low bits.</li>
+ *     <li>Tokens : 4 bits per cell (the @link TokenVariants ordinal), 2 cells per byte, the first cell in the low
+ *     bits.</li>
+ * </ul>
+ * A 21x21 board with 4 ghosts takes 364 bytes.
+ */
+public final class LevelFormat
+{
+    /**
+     * The level's magic number, "PMLV" in ASCII.
+     */
+    public static final int MAGIC = 0x504D4C56;
+
+
+    /**
+     * The format's version. Must be incremented whenever the format changes.
+     */
+    public static final short VERSION = 1;
+
+
+    /**
+     * The header's size in bytes.
+     */
+    private static final int HEADER_SIZE = 12;
+
+
+    /**
+     * The tiles, indexed by their ordinal.
+     */
+    private static final TileVariant[] TILES = TileVariant.values();
+
+
+    /**
+     * The tokens, indexed by their ordinal.
+     */
+    private static final TokenVariants[] TOKENS = TokenVariants.values();
+
+
+    /**
+     * The class' constructor. Not instantiable.
+     */
+    private LevelFormat() {}
+
+
+    /**
+     * Returns the size of the given board's level in bytes.
+     * @param board The board.
+     * @return the size of the board's level in bytes.
+     * <pre>{@code
+     * ByteBuffer buffer = ByteBuffer.allocate(LevelFormat.sizeOf(board));
+     * }</pre>
+     */
+    public static int sizeOf(Board board)
+    {
+        return (int) sizeOf(board.getCellCount(), board.getGhostCount());
+    }
+
+
+    /**
+     * Returns the size of a level in bytes.
+     * @param cells The level's amount of cells.
+     * @param ghosts The level's amount of ghosts.
+     * @return the size of the level in bytes.
+     * <pre>{@code
+     * long size = sizeOf(441, 4);
+     * }</pre>
+     */
+    private static long sizeOf(int cells, int ghosts)
+    {
+        return HEADER_SIZE + 4L * (1 + ghosts) + (cells + 3L) / 4 + (cells + 1L) / 2;
+    }
+
+
+    /**
+     * Writes the given board's level at the buffer's position. The buffer's position is moved after the level.
+     * @param board The board.
+     * @param buffer The buffer. Must have @link LevelFormat.sizeOf bytes remaining.
+     * @throws IllegalArgumentException if the board is too large for the format : more than 32767 rows or columns, or
+     * more than 127 ghosts.
+     * <pre>{@code
+     * ByteBuffer buffer = ByteBuffer.allocate(LevelFormat.sizeOf(board));
+     * LevelFormat.write(board, buffer);
+     * }</pre>
+     */
+    public static void write(Board board, ByteBuffer buffer)
+    {
+        if (board.getRows() > Short.MAX_VALUE || board.getCols() > Short.MAX_VALUE)
+            throw new IllegalArgumentException("Board too large for a level : " + board.getRows() + "x" + board.getCols());
+        if (board.getGhostCount() > Byte.MAX_VALUE)
+            throw new IllegalArgumentException("Too many ghosts for a level : " + board.getGhostCount());
+        int cells = board.getCellCount();
+        buffer.putInt(MAGIC);
+        buffer.putShort(VERSION);
+        buffer.putShort((short) board.getRows());
+        buffer.putShort((short) board.getCols());
+        buffer.put((byte) board.getGhostCount());
+        buffer.put((byte) 0);
+        buffer.putInt(board.getPlayerCell());
+        for (int ghost = 0; ghost < board.getGhostCount(); ghost++) buffer.putInt(board.getGhostCell(ghost));
+        for (int cell = 0; cell < cells; cell += 4)
+        {
+            int packed = 0;
+            for (int i = 0; i < 4 && cell + i < cells; i++) packed |= board.getTile(cell + i).ordinal() << (2 * i);
+            buffer.put((byte) packed);
+        }
+        for (int cell = 0; cell < cells; cell += 2)
+        {
+            int packed = board.getToken(cell).ordinal();
+            if (cell + 1 < cells) packed |= board.getToken(cell + 1).ordinal() << 4;
+            buffer.put((byte) packed);
+        }
+    }
+
+
+    /**
+     * Reads the level at the buffer's position. The buffer's position is moved after the level.
+     * @param buffer The buffer.
+     * @return the level's board.
+     * @throws IllegalArgumentException if the buffer does not hold a valid level.
+     * <pre>{@code
+     * Board board = LevelFormat.read(buffer);
+     * }</pre>
+     */
+    public static Board read(ByteBuffer buffer)
+    {
+        return read(buffer, null);
+    }
+
+
+    /**
+     * Reads the level at the buffer's position into the given board when it has the level's dimensions and amount of
+     * ghosts, or into a new board otherwise. The whole level is checked before the board is changed : the given board is
+     * left untouched by an invalid level. The buffer's position is moved after the level.
+     * @param buffer The buffer.
+     * @param board The reused board. May be null.
+     * @return the level's board : the given one if it was reused.
+     * @throws IllegalArgumentException if the buffer does not hold a valid level.
+     * <pre>{@code
+     * board = LevelFormat.read(buffer, board);
+     * }</pre>
+     */
+    public static Board read(ByteBuffer buffer, Board board)
+    {
+        check(buffer);
+        // The level is valid : the magic and the version are skipped, and nothing below can fail
+        buffer.position(buffer.position() + 6);
+        int rows = buffer.getShort(), cols = buffer.getShort(), ghosts = buffer.get();
+        buffer.get();
+        if (board != null && board.getRows() == rows && board.getCols() == cols && board.getGhostCount() == ghosts)
+            board.removeGhosts();
+        else board = new Board(rows, cols, ghosts);
+        int cells = board.getCellCount();
+        board.setPlayerCell(buffer.getInt());
+        for (int ghost = 0; ghost < ghosts; ghost++) board.setGhostCell(ghost, buffer.getInt());
+        for (int cell = 0; cell < cells; cell += 4)
+        {
+            int packed = buffer.get();
+            for (int i = 0; i < 4 && cell + i < cells; i++) board.setTile(cell + i, TILES[(packed >>> (2 * i)) & 3]);
+        }
+        for (int cell = 0; cell < cells; cell += 2)
+        {
+            int packed = buffer.get();
+            board.setToken(cell, TOKENS[packed & 15]);
+            if (cell + 1 < cells) board.setToken(cell + 1, TOKENS[(packed >>> 4) & 15]);
+        }
+        return board;
+    }
+
+
+    /**
+     * Checks the whole level at the buffer's position, without moving the position.
+     * @param buffer The buffer.
+     * @throws IllegalArgumentException if the buffer does not hold a valid level.
+     * <pre>{@code
+     * check(buffer);
+     * }</pre>
+     */
+    private static void check(ByteBuffer buffer)
+    {
+        int start = buffer.position();
+        if (buffer.remaining() < HEADER_SIZE) throw new IllegalArgumentException("Truncated level");
+        if (buffer.getInt(start) != MAGIC) throw new IllegalArgumentException("Not a level");
+        short version = buffer.getShort(start + 4);
+        if (version != VERSION) throw new IllegalArgumentException("Unsupported level version " + version);
+        int rows = buffer.getShort(start + 6), cols = buffer.getShort(start + 8), ghosts = buffer.get(start + 10);
+        if (rows <= 0 || cols <= 0 || ghosts < 0) throw new IllegalArgumentException("Invalid level dimensions");
+        int cells = rows * cols;
+        if (buffer.remaining() < sizeOf(cells, ghosts)) throw new IllegalArgumentException("Truncated level");
+        int position = start + HEADER_SIZE;
+        for (int i = 0; i <= ghosts; i++, position += 4) checkCell(buffer.getInt(position), cells);
+        position += (cells + 3) / 4;
+        for (int cell = 0; cell < cells; cell += 2)
+        {
+            int packed = buffer.get(position++);
+            checkToken(packed & 15);
+            if (cell + 1 < cells) checkToken((packed >>> 4) & 15);
+        }
+    }
+
+
+    /**
+     * Checks that the given cell is on the board.
+     * @param cell The cell id.
+     * @param cells The amount of cells on the board.
+     * @throws IllegalArgumentException if the cell is not on the board.
+     * <pre>{@code
+     * checkCell(buffer.getInt(), 441);
+     * }</pre>
+     */
+    private static void checkCell(int cell, int cells)
+    {
+        if (cell < 0 || cell >= cells) throw new IllegalArgumentException("Invalid cell " + cell);
+    }
+
+
+    /**
+     * Checks that the given ordinal is a token's one.
+     * @param ordinal The token's ordinal.
+     * @throws IllegalArgumentException if the ordinal is not a token's one.
+     * <pre>{@code
+     * checkToken(4);
+     * }</pre>
+     */
+    private static void checkToken(int ordinal)
+    {
+        if (ordinal >= TOKENS.length) throw new IllegalArgumentException("Invalid token " + ordinal);
+    }
+}
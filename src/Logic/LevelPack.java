@@ -0,0 +1,209 @@
+package Logic;
+
+import Scenes.BoardCache;
+import Utilities.Configs;
+import Utilities.GameRandom;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+
+/**
+ * A file holding many levels (see @link LevelFormat) behind an offset index. The file is memory-mapped when opened :
+ * finding a level is O(1) and its bytes are read from the mapping without being copied. All values are big-endian.
+ * <ul>
+ *     <li>Header (12 bytes) : magic <code>PMPK</code> (int), version (short), reserved (short), amount of levels
+ *     (int).</li>
+ *     <li>Index : the offset of each level from the start of the file (long), then the end of the last level
+ *     (long).</li>
+ *     <li>Levels, one after the other.</li>
+ * </ul>
+ */
+public final class LevelPack
+{
+    /**
+     * The pack's magic number, "PMPK" in ASCII.
+     */
+    public static final int MAGIC = 0x504D504B;
+
+
+    /**
+     * The format's version. Must be incremented whenever the format changes.
+     */
+    public static final short VERSION = 1;
+
+
+    /**
+     * The header's size in bytes.
+     */
+    private static final int HEADER_SIZE = 12;
+
+
+    /**
+     * The mapped file.
+     */
+    private final MappedByteBuffer buffer;
+
+
+    /**
+     * The amount of levels.
+     */
+    private final int count;
+
+
+    /**
+     * The class' constructor. Use @link LevelPack.open.
+     * @param buffer The mapped file.
+     * @param count The amount of levels.
+     */
+    private LevelPack(MappedByteBuffer buffer, int count)
+    {
+        this.buffer = buffer;
+        this.count = count;
+    }
+
+
+    /**
+     * Opens the given pack. The file is mapped read-only, the levels are only read when requested.
+     * @param path The pack's path.
+     * @return the opened pack.
+     * @throws IOException if the file cannot be read or is not a valid pack.
+     * <pre>{@code
+     * LevelPack pack = LevelPack.open(Path.of("levels.pack"));
+     * }</pre>
+     */
+    public static LevelPack open(Path path) throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+        {
+            if (channel.size() > Integer.MAX_VALUE) throw new IOException("Level pack larger than 2 GB");
+            if (channel.size() < HEADER_SIZE) throw new IOException("Not a level pack");
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt(0) != MAGIC) throw new IOException("Not a level pack");
+            if (buffer.getShort(4) != VERSION) throw new IOException("Unsupported level pack version " + buffer.getShort(4));
+            int count = buffer.getInt(8);
+            if (count < 0 || HEADER_SIZE + 8L * (count + 1) > buffer.capacity()) throw new IOException("Truncated level pack");
+            return new LevelPack(buffer, count);
+        }
+    }
+
+
+    /**
+     * Writes the given boards as a pack.
+     * @param path The pack's path. The file is replaced.
+     * @param boards The boards.
+     * @throws IOException if the file cannot be written.
+     * <pre>{@code
+     * LevelPack.write(Path.of("levels.pack"), List.of(board));
+     * }</pre>
+     */
+    public static void write(Path path, List<Board> boards) throws IOException
+    {
+        long size = HEADER_SIZE + 8L * (boards.size() + 1);
+        for (Board board : boards) size += LevelFormat.sizeOf(board);
+        if (size > Integer.MAX_VALUE) throw new IOException("Level pack larger than 2 GB");
+        ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        buffer.putInt(MAGIC);
+        buffer.putShort(VERSION);
+        buffer.putShort((short) 0);
+        buffer.putInt(boards.size());
+        long offset = buffer.position() + 8L * (boards.size() + 1);
+        for (Board board : boards)
+        {
+            buffer.putLong(offset);
+            offset += LevelFormat.sizeOf(board);
+        }
+        buffer.putLong(offset);
+        for (Board board : boards) LevelFormat.write(board, buffer);
+        buffer.flip();
+        try (FileChannel channel = FileChannel.open(
+            path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING
+        ))
+        {
+            while (buffer.hasRemaining()) channel.write(buffer);
+        }
+    }
+
+
+    /**
+     * Returns the amount of levels.
+     * @return the amount of levels.
+     * <pre>{@code
+     * int count = pack.getLevelCount();
+     * }</pre>
+     */
+    public int getLevelCount()
+    {
+        return this.count;
+    }
+
+
+    /**
+     * Returns the bytes of the given level, without copying them : the buffer is a read-only view of the mapping.
+     * @param level The level's index.
+     * @return the level's bytes.
+     * @throws IndexOutOfBoundsException if the level does not exist.
+     * <pre>{@code
+     * ByteBuffer bytes = pack.getLevelBuffer(42);
+     * }</pre>
+     */
+    public ByteBuffer getLevelBuffer(int level)
+    {
+        if (level < 0 || level >= this.count) throw new IndexOutOfBoundsException("No level " + level);
+        long start = this.buffer.getLong(HEADER_SIZE + 8 * level), end = this.buffer.getLong(HEADER_SIZE + 8 * (level + 1));
+        if (start < 0 || end < start || end > this.buffer.capacity())
+            throw new IllegalArgumentException("Invalid offset of level " + level);
+        return this.buffer.slice((int) start, (int) (end - start)).asReadOnlyBuffer();
+    }
+
+
+    /**
+     * Reads the given level.
+     * @param level The level's index.
+     * @return the level's board.
+     * @throws IndexOutOfBoundsException if the level does not exist.
+     * @throws IllegalArgumentException if the level is not valid.
+     * <pre>{@code
+     * Board board = pack.getLevel(42);
+     * }</pre>
+     */
+    public Board getLevel(int level)
+    {
+        return LevelFormat.read(this.getLevelBuffer(level));
+    }
+
+
+    /**
+     * Generates a pack of levels of the configured size.
+     * @param args [path] [levels] [seed]. Defaults to levels.pack, 1000 levels and the seed 42.
+     * @throws IOException if the pack cannot be written.
+     * <pre>{@code
+     * java Logic.LevelPack levels.pack 1000 42
+     * }</pre>
+     */
+    public static void main(String[] args) throws IOException
+    {
+        Path path = Path.of(args.length > 0 ? args[0] : "levels.pack");
+        int levels = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        GameRandom random = new GameRandom(args.length > 2 ? Long.parseLong(args[2]) : 42);
+        Board[] boards = new Board[levels];
+        for (int i = 0; i < levels; i++)
+            boards[i] = Board.fromGeneratedBoard(
+                BoardCache.getShared().get(random.nextLong(), Configs.BOARD_WIDTH, Configs.BOARD_HEIGHT),
+                Configs.GHOST_COUNT, random
+            );
+        write(path, List.of(boards));
+        long start = System.nanoTime();
+        LevelPack pack = open(path);
+        Board last = pack.getLevel(pack.getLevelCount() - 1);
+        System.out.printf(
+            "%d levels written to %s, opened and last level read in %.3f ms (%d tokens)%n",
+            pack.getLevelCount(), path, (System.nanoTime() - start) / 1e6, last.countTokens()
+        );
+    }
+}
@@ -0,0 +1,87 @@
+package Logic;
+
+import Components.PacmanStates;
+import Utilities.Utils;
+
+
+/**
+ * The player class. Holds the player's state, it is drawn by @link Views.BoardView.
+ */
+public class Pacman
+{
+    /**
+     * The player's current direction.
+     */
+    private Utils.Moving currentDirection;
+
+
+    /**
+     * The player's current state.
+     */
+    private PacmanStates state = PacmanStates.Normal;
+
+
+    /**
+     * The class' constructor.
+     * <pre>{@code
+     * Logic.Pacman player = new Logic.Pacman();
+     * }</pre>
+     */
+    public Pacman() {}
+
+
+    /**
+     * Changes the player's state.
+     * @param state The new state.
+     * <pre>{@code
+     * Logic.Pacman player = new Logic.Pacman();
+     * player.changeState(PacmanStates.Super);
+     * }</pre>
+     */
+    public void changeState(PacmanStates state)
+    {
+        this.state = state;
+    }
+
+
+    /**
+     * Returns the player's current state.
+     * @return the player's current state.
+     * <pre>{@code
+     * Logic.Pacman player = new Logic.Pacman();
+     * PacmanStates state = player.getState();
+     * }</pre>
+     */
+    public PacmanStates getState()
+    {
+        return this.state;
+    }
+
+
+    /**
+     * Returns the player's current direction.
+     * @return the player's current direction.
+     * <pre>{@code
+     * Logic.Pacman player = new Logic.Pacman();
+     * Utils.Moving direction = player.getCurrentDirection();
+     * }</pre>
+     */
+    public Utils.Moving getCurrentDirection()
+    {
+        return this.currentDirection;
+    }
+
+
+    /**
+     * Changes the player's direction.
+     * @param direction The new direction.
+     * <pre>{@code
+     * Logic.Pacman player = new Logic.Pacman();
+     * player.changeDirection(Utils.Moving.UP);
+     * }</pre>
+     */
+    public void changeDirection(Utils.Moving direction)
+    {
+        this.currentDirection = direction;
+    }
+}
@@ -0,0 +1,67 @@
+package Logic;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+
+/**
+ * Hands the game's snapshots from the simulation thread over to the renderer without locks (triple buffering). The
+ * simulation thread writes into its back snapshot then swaps it with the shared one. The renderer swaps its front
+ * snapshot with the shared one when the latter is more recent. Each snapshot is owned by a single thread at a time,
+ * so neither thread waits for the other and the renderer never sees a half-written snapshot.
+ */
+public final class SnapshotBuffer
+{
+    /**
+     * The snapshot written by the simulation thread.
+     */
+    private GameSnapshot back = new GameSnapshot();
+
+
+    /**
+     * The latest published snapshot, or the renderer's previous one.
+     */
+    private final AtomicReference<GameSnapshot> shared = new AtomicReference<>(new GameSnapshot());
+
+
+    /**
+     * The snapshot read by the renderer.
+     */
+    private GameSnapshot front = new GameSnapshot();
+
+
+    /**
+     * The last published sequence number. Only used by the simulation thread.
+     */
+    private long sequence = 0;
+
+
+    /**
+     * Captures the given game and publishes the snapshot. Must only be called by the simulation thread.
+     * @param game The game.
+     * <pre>{@code
+     * SnapshotBuffer snapshots = new SnapshotBuffer();
+     * snapshots.publish(game);
+     * }</pre>
+     */
+    public void publish(GameManager game)
+    {
+        this.back.capture(game, ++this.sequence);
+        this.back = this.shared.getAndSet(this.back);
+    }
+
+
+    /**
+     * Returns the latest published snapshot. Must only be called by the renderer. The snapshot stays valid until the
+     * next call.
+     * @return the latest published snapshot. Its sequence number is 0 if nothing has been published yet.
+     * <pre>{@code
+     * SnapshotBuffer snapshots = new SnapshotBuffer();
+     * GameSnapshot snapshot = snapshots.acquire();
+     * }</pre>
+     */
+    public GameSnapshot acquire()
+    {
+        if (this.shared.get().getSequence() > this.front.getSequence()) this.front = this.shared.getAndSet(this.front);
+        return this.front;
+    }
+}
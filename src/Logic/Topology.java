@@ -0,0 +1,104 @@
+package Logic;
+
+import Utilities.Utils;
+
+
+/**
+ * The topology of a board. Holds, for each cell, the neighbour reached following each direction (the board wraps
+ * around) and the legal moves. The topology is computed once when a board is built and is never modified.
+ */
+public final class Topology
+{
+    /**
+     * The amount of directions, STILL included.
+     */
+    private static final int DIRECTIONS = Utils.Moving.values().length;
+
+
+    /**
+     * The neighbours' cell ids, indexed by <code>cell * DIRECTIONS + direction.ordinal()</code>. The STILL
+     * neighbour of a cell is the cell itself.
+     */
+    private final int[] neighbours;
+
+
+    /**
+     * The legal moves of each cell as 4-bit masks, see @link WallBitboard.legalMask.
+     */
+    private final byte[] legalMasks;
+
+
+    /**
+     * The class' constructor. Computes the topology of the given board.
+     * @param board The board.
+     * <pre>{@code
+     * Board board = ...;
+     * Topology topology = new Topology(board);
+     * }</pre>
+     */
+    public Topology(Board board)
+    {
+        int rows = board.getRows(), cols = board.getCols();
+        WallBitboard walls = new WallBitboard(board);
+        this.neighbours = new int[board.getCellCount() * DIRECTIONS];
+        this.legalMasks = new byte[board.getCellCount()];
+        for (int cell = 0; cell < board.getCellCount(); cell++)
+        {
+            int r = board.rowOf(cell), c = board.colOf(cell), i = cell * DIRECTIONS;
+            this.neighbours[i + Utils.Moving.UP.ordinal()] = board.cellOf(r, (c - 1 < 0) ? (cols - 1) : (c - 1));
+            this.neighbours[i + Utils.Moving.DOWN.ordinal()] = board.cellOf(r, (c + 1 >= cols) ? 0 : (c + 1));
+            this.neighbours[i + Utils.Moving.LEFT.ordinal()] = board.cellOf((r - 1 < 0) ? (rows - 1) : (r - 1), c);
+            this.neighbours[i + Utils.Moving.RIGHT.ordinal()] = board.cellOf((r + 1 >= rows) ? 0 : (r + 1), c);
+            this.neighbours[i + Utils.Moving.STILL.ordinal()] = cell;
+            this.legalMasks[cell] = (byte) walls.legalMask(cell);
+        }
+    }
+
+
+    /**
+     * Returns the cell reached from the given cell following the given direction.
+     * @param cell The cell id.
+     * @param direction The direction.
+     * @return the cell reached from the given cell following the given direction.
+     * <pre>{@code
+     * Topology topology = ...;
+     * int next = topology.neighbour(215, Utils.Moving.UP);
+     * }</pre>
+     */
+    public int neighbour(int cell, Utils.Moving direction)
+    {
+        return this.neighbours[cell * DIRECTIONS + direction.ordinal()];
+    }
+
+
+    /**
+     * Returns the legal moves from the given cell as a 4-bit mask. The bit <code>1 << direction.ordinal()</code> is
+     * set if moving following the direction is legal.
+     * @param cell The cell id.
+     * @return the legal moves from the given cell.
+     * <pre>{@code
+     * Topology topology = ...;
+     * int mask = topology.legalMask(215);
+     * }</pre>
+     */
+    public int legalMask(int cell)
+    {
+        return this.legalMasks[cell];
+    }
+
+
+    /**
+     * Checks if moving from the given cell following the given direction is legal.
+     * @param cell The cell id.
+     * @param direction The direction.
+     * @return true if moving from the given cell following the given direction is legal. STILL is never legal.
+     * <pre>{@code
+     * Topology topology = ...;
+     * boolean bool = topology.canMove(215, Utils.Moving.UP);
+     * }</pre>
+     */
+    public boolean canMove(int cell, Utils.Moving direction)
+    {
+        return (this.legalMasks[cell] & (1 << direction.ordinal())) != 0;
+    }
+}
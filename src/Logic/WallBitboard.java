@@ -0,0 +1,258 @@
+package Logic;
+
+import Utilities.Utils;
+
+
+/**
+ * The walls of a board stored as bitboards. Bit <code>cell</code> of a bitboard is stored in the word
+ * <code>cell / 64</code> at the position <code>cell % 64</code>. For each direction, a bitboard flags the cells from
+ * which the player or a ghost can move following that direction. These bitboards are computed once per board with a
+ * few shifts and masks, the board wrapping around through the precomputed edge masks.
+ */
+public final class WallBitboard
+{
+    /**
+     * The amount of rows on the board.
+     */
+    private final int rows;
+
+
+    /**
+     * The amount of columns on the board.
+     */
+    private final int cols;
+
+
+    /**
+     * The walls : a bit is set if the cell is a wall.
+     */
+    private final long[] walls;
+
+
+    /**
+     * The legal moves, indexed by the direction's ordinal : a bit is set if the cell's neighbour following the
+     * direction is not a wall.
+     */
+    private final long[][] legalMoves = new long[4][];
+
+
+    /**
+     * The class' constructor. Computes the walls and the legal moves of the given board.
+     * @param board The board.
+     * <pre>{@code
+     * Board board = ...;
+     * WallBitboard walls = new WallBitboard(board);
+     * }</pre>
+     */
+    public WallBitboard(Board board)
+    {
+        this.rows = board.getRows();
+        this.cols = board.getCols();
+        int cells = board.getCellCount();
+        this.walls = new long[(cells + 63) >>> 6];
+        long[] firstCol = new long[this.walls.length];
+        long[] lastCol = new long[this.walls.length];
+        long[] firstRow = new long[this.walls.length];
+        long[] lastRow = new long[this.walls.length];
+        long[] open = new long[this.walls.length];
+        for (int cell = 0; cell < cells; cell++)
+        {
+            if (board.isWall(cell)) set(this.walls, cell);
+            else set(open, cell);
+            if (board.colOf(cell) == 0) set(firstCol, cell);
+            if (board.colOf(cell) == this.cols - 1) set(lastCol, cell);
+            if (board.rowOf(cell) == 0) set(firstRow, cell);
+            if (board.rowOf(cell) == this.rows - 1) set(lastRow, cell);
+        }
+        int lastRowOffset = (this.rows - 1) * this.cols;
+        this.legalMoves[Utils.Moving.UP.ordinal()] = or(
+            andNot(shiftUp(open, 1), firstCol), and(shiftDown(open, this.cols - 1), firstCol)
+        );
+        this.legalMoves[Utils.Moving.DOWN.ordinal()] = or(
+            andNot(shiftDown(open, 1), lastCol), and(shiftUp(open, this.cols - 1), lastCol)
+        );
+        this.legalMoves[Utils.Moving.LEFT.ordinal()] = or(
+            andNot(shiftUp(open, this.cols), firstRow), and(shiftDown(open, lastRowOffset), firstRow)
+        );
+        this.legalMoves[Utils.Moving.RIGHT.ordinal()] = or(
+            andNot(shiftDown(open, this.cols), lastRow), and(shiftUp(open, lastRowOffset), lastRow)
+        );
+    }
+
+
+    /**
+     * Checks if the given cell is a wall.
+     * @param cell The cell id.
+     * @return true if the given cell is a wall.
+     * <pre>{@code
+     * WallBitboard walls = ...;
+     * boolean bool = walls.isWall(215);
+     * }</pre>
+     */
+    public boolean isWall(int cell)
+    {
+        return get(this.walls, cell);
+    }
+
+
+    /**
+     * Checks if moving from the given cell following the given direction is legal.
+     * @param cell The cell id.
+     * @param direction The direction.
+     * @return true if moving from the given cell following the given direction is legal. STILL is never legal.
+     * <pre>{@code
+     * WallBitboard walls = ...;
+     * boolean bool = walls.canMove(215, Utils.Moving.UP);
+     * }</pre>
+     */
+    public boolean canMove(int cell, Utils.Moving direction)
+    {
+        return direction != Utils.Moving.STILL && get(this.legalMoves[direction.ordinal()], cell);
+    }
+
+
+    /**
+     * Returns the legal moves from the given cell as a 4-bit mask. The bit <code>1 << direction.ordinal()</code> is
+     * set if moving following the direction is legal.
+     * @param cell The cell id.
+     * @return the legal moves from the given cell.
+     * <pre>{@code
+     * WallBitboard walls = ...;
+     * int mask = walls.legalMask(215);
+     * }</pre>
+     */
+    public int legalMask(int cell)
+    {
+        int word = cell >>> 6;
+        return (int) (this.legalMoves[0][word] >>> cell) & 1
+            | ((int) (this.legalMoves[1][word] >>> cell) & 1) << 1
+            | ((int) (this.legalMoves[2][word] >>> cell) & 1) << 2
+            | ((int) (this.legalMoves[3][word] >>> cell) & 1) << 3;
+    }
+
+
+    /**
+     * Sets the given bit.
+     * @param bits The bitboard.
+     * @param bit The bit's index.
+     * <pre>{@code
+     * set(bits, 215);
+     * }</pre>
+     */
+    private static void set(long[] bits, int bit)
+    {
+        bits[bit >>> 6] |= 1L << bit;
+    }
+
+
+    /**
+     * Returns the given bit.
+     * @param bits The bitboard.
+     * @param bit The bit's index.
+     * @return true if the given bit is set.
+     * <pre>{@code
+     * boolean bool = get(bits, 215);
+     * }</pre>
+     */
+    private static boolean get(long[] bits, int bit)
+    {
+        return (bits[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+
+    /**
+     * Shifts the bitboard toward the higher cell ids : the bit <code>i</code> of the result is the bit
+     * <code>i - n</code> of the given bitboard.
+     * @param bits The bitboard.
+     * @param n The shift's length.
+     * @return the shifted bitboard.
+     * <pre>{@code
+     * long[] shifted = shiftUp(bits, 21);
+     * }</pre>
+     */
+    private static long[] shiftUp(long[] bits, int n)
+    {
+        long[] result = new long[bits.length];
+        int words = n >>> 6, offset = n & 63;
+        for (int i = bits.length - 1; i >= words; i--)
+        {
+            result[i] = bits[i - words] << offset;
+            if (offset != 0 && i - words - 1 >= 0) result[i] |= bits[i - words - 1] >>> (64 - offset);
+        }
+        return result;
+    }
+
+
+    /**
+     * Shifts the bitboard toward the lower cell ids : the bit <code>i</code> of the result is the bit
+     * <code>i + n</code> of the given bitboard.
+     * @param bits The bitboard.
+     * @param n The shift's length.
+     * @return the shifted bitboard.
+     * <pre>{@code
+     * long[] shifted = shiftDown(bits, 21);
+     * }</pre>
+     */
+    private static long[] shiftDown(long[] bits, int n)
+    {
+        long[] result = new long[bits.length];
+        int words = n >>> 6, offset = n & 63;
+        for (int i = 0; i + words < bits.length; i++)
+        {
+            result[i] = bits[i + words] >>> offset;
+            if (offset != 0 && i + words + 1 < bits.length) result[i] |= bits[i + words + 1] << (64 - offset);
+        }
+        return result;
+    }
+
+
+    /**
+     * Returns the intersection of both bitboards.
+     * @param a The first bitboard.
+     * @param b The second bitboard.
+     * @return the intersection of both bitboards.
+     * <pre>{@code
+     * long[] result = and(a, b);
+     * }</pre>
+     */
+    private static long[] and(long[] a, long[] b)
+    {
+        long[] result = new long[a.length];
+        for (int i = 0; i < a.length; i++) result[i] = a[i] & b[i];
+        return result;
+    }
+
+
+    /**
+     * Returns the bits of the first bitboard which are not set in the second one.
+     * @param a The first bitboard.
+     * @param b The second bitboard.
+     * @return the first bitboard without the bits of the second one.
+     * <pre>{@code
+     * long[] result = andNot(a, b);
+     * }</pre>
+     */
+    private static long[] andNot(long[] a, long[] b)
+    {
+        long[] result = new long[a.length];
+        for (int i = 0; i < a.length; i++) result[i] = a[i] & ~b[i];
+        return result;
+    }
+
+
+    /**
+     * Returns the union of both bitboards.
+     * @param a The first bitboard.
+     * @param b The second bitboard.
+     * @return the union of both bitboards.
+     * <pre>{@code
+     * long[] result = or(a, b);
+     * }</pre>
+     */
+    private static long[] or(long[] a, long[] b)
+    {
+        long[] result = new long[a.length];
+        for (int i = 0; i < a.length; i++) result[i] = a[i] | b[i];
+        return result;
+    }
+}
@@ -13,6 +13,11 @@ public class Main
     public static void main(String[] args)
     {
         MainWindow window = new MainWindow();
+        // Reports the loop's timing and the input latency when the game is closed
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            System.out.println("Update loop : " + window.getLoop());
+            System.out.println("Input latency : " + window.getInputLatency());
+        }));
         window.setVisible(true);
     }
 }
\ No newline at end of file
@@ -0,0 +1,206 @@
+package Scenes;
+
+import Components.TileVariant;
+import Utilities.Configs;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * A bounded cache of generated boards, keyed by their seed, their dimensions and the generator's version. The least
+ * recently used boards are evicted once the cached boards exceed the maximum amount of cells. The cached boards are
+ * shared between the games and the threads : they must never be modified (@link Logic.Board.fromGeneratedBoard only
+ * reads them). Thread-safe : the boards are generated outside the lock, two threads missing the same board may both
+ * generate it.
+ */
+public final class BoardCache
+{
+    /**
+     * The cache shared by all the games.
+     */
+    private static final BoardCache SHARED = new BoardCache(Configs.BOARD_CACHE_MAX_CELLS);
+
+
+    /**
+     * The cached boards, from the least to the most recently used.
+     */
+    private final LinkedHashMap<Key, TileVariant[][]> boards = new LinkedHashMap<>(16, 0.75f, true);
+
+
+    /**
+     * The maximum amount of cells held by the cache.
+     */
+    private final long maxCells;
+
+
+    /**
+     * The amount of cells held by the cache.
+     */
+    private long cells = 0;
+
+
+    /**
+     * The amount of boards found in the cache.
+     */
+    private long hits = 0;
+
+
+    /**
+     * The amount of boards generated.
+     */
+    private long misses = 0;
+
+
+    /**
+     * The class' constructor.
+     * @param maxCells The maximum amount of cells held by the cache. The last board is always kept.
+     * <pre>{@code
+     * BoardCache cache = new BoardCache(1024 * 1024);
+     * }</pre>
+     */
+    public BoardCache(long maxCells)
+    {
+        this.maxCells = maxCells;
+    }
+
+
+    /**
+     * Returns the cache shared by all the games.
+     * @return the shared cache.
+     * <pre>{@code
+     * BoardCache cache = BoardCache.getShared();
+     * }</pre>
+     */
+    public static BoardCache getShared()
+    {
+        return SHARED;
+    }
+
+
+    /**
+     * Returns the board generated from the given seed, from the cache if possible.
+     * @param seed The board's seed.
+     * @param width The board's width (first index).
+     * @param height The board's height (second index).
+     * @return the board, shared : it must not be modified.
+     * <pre>{@code
+     * TileVariant[][] board = BoardCache.getShared().get(42, 21, 21);
+     * }</pre>
+     */
+    public TileVariant[][] get(long seed, int width, int height)
+    {
+        Key key = new Key(
+            seed, width, height, SceneGenerator.VERSION, Configs.TILED_GENERATION_MIN_CELLS, Configs.GENERATION_TILE_SIZE
+        );
+        synchronized (this)
+        {
+            TileVariant[][] board = this.boards.get(key);
+            if (board != null)
+            {
+                this.hits++;
+                return board;
+            }
+            this.misses++;
+        }
+        TileVariant[][] board = SceneGenerator.generate(seed, width, height);
+        synchronized (this)
+        {
+            TileVariant[][] cached = this.boards.putIfAbsent(key, board);
+            if (cached != null) return cached;
+            this.cells += (long) width * height;
+            Iterator<Map.Entry<Key, TileVariant[][]>> eldest = this.boards.entrySet().iterator();
+            while (this.cells > this.maxCells && this.boards.size() > 1)
+            {
+                Map.Entry<Key, TileVariant[][]> entry = eldest.next();
+                this.cells -= (long) entry.getKey().width() * entry.getKey().height();
+                eldest.remove();
+            }
+        }
+        return board;
+    }
+
+
+    /**
+     * Returns the amount of boards found in the cache.
+     * @return the amount of hits.
+     * <pre>{@code
+     * long hits = BoardCache.getShared().getHits();
+     * }</pre>
+     */
+    public synchronized long getHits()
+    {
+        return this.hits;
+    }
+
+
+    /**
+     * Returns the amount of boards generated.
+     * @return the amount of misses.
+     * <pre>{@code
+     * long misses = BoardCache.getShared().getMisses();
+     * }</pre>
+     */
+    public synchronized long getMisses()
+    {
+        return this.misses;
+    }
+
+
+    /**
+     * Returns the share of boards found in the cache.
+     * @return the hit ratio, between 0 and 1. 0 if no board has been requested.
+     * <pre>{@code
+     * double ratio = BoardCache.getShared().getHitRatio();
+     * }</pre>
+     */
+    public synchronized double getHitRatio()
+    {
+        long requests = this.hits + this.misses;
+        return requests == 0 ? 0 : (double) this.hits / requests;
+    }
+
+
+    /**
+     * Returns the amount of cached boards.
+     * @return the amount of cached boards.
+     * <pre>{@code
+     * int size = BoardCache.getShared().size();
+     * }</pre>
+     */
+    public synchronized int size()
+    {
+        return this.boards.size();
+    }
+
+
+    /**
+     * Returns a summary of the cache's metrics.
+     * @return a summary of the cache's metrics.
+     * <pre>{@code
+     * System.out.println(BoardCache.getShared());
+     * }</pre>
+     */
+    @Override
+    public synchronized String toString()
+    {
+        return String.format(
+            "%d boards (%d cells), %d hits, %d misses, hit ratio %.1f %%",
+            this.boards.size(), this.cells, this.hits, this.misses, 100 * this.getHitRatio()
+        );
+    }
+
+
+    /**
+     * The key of a cached board. The tiled generation's threshold and tile size are part of the key as they decide
+     * how a board is generated.
+     * @param seed The board's seed.
+     * @param width The board's width.
+     * @param height The board's height.
+     * @param version The generator's version.
+     * @param tiledMinCells The amount of cells from which a board is generated by tiles.
+     * @param tileSize The tile size of the large boards.
+     */
+    private record Key(long seed, int width, int height, int version, int tiledMinCells, int tileSize) {}
+}
@@ -0,0 +1,351 @@
+package Scenes;
+
+import Components.TileVariant;
+import Utilities.Configs;
+import Utilities.GameRandom;
+import Utilities.LatencyHistogram;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+
+/**
+ * A bounded pool of boards generated ahead of time on background threads. Taking a ready board is O(1), the pool is
+ * refilled asynchronously. Each board is generated from its own seed, drawn from the pool's generator when the board is
+ * requested : the boards are taken in the order of their seeds, so a seeded game stays reproducible whatever the
+ * background threads' timing. The pool is not thread-safe, it must be used by the game's thread only.
+ */
+public final class BoardPool
+{
+    /**
+     * The background threads shared by all the pools. Daemon threads, so they never prevent the program from exiting.
+     */
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+        Math.max(1, Runtime.getRuntime().availableProcessors() / 2),
+        Thread.ofPlatform().daemon().name("board-pool-", 0).factory()
+    );
+
+
+    /**
+     * The generator of the boards' seeds.
+     */
+    private final GameRandom seeds;
+
+
+    /**
+     * The amount of boards generated ahead of time.
+     */
+    private final int capacity;
+
+
+    /**
+     * The boards being generated or ready, in the order of their seeds.
+     */
+    private final ArrayDeque<PendingBoard> pending = new ArrayDeque<>();
+
+
+    /**
+     * The amount of boards taken ready.
+     */
+    private long hits = 0;
+
+
+    /**
+     * The amount of boards taken before they were ready.
+     */
+    private long misses = 0;
+
+
+    /**
+     * The boards' generation time.
+     */
+    private final LatencyHistogram generationLatency = new LatencyHistogram();
+
+
+    /**
+     * The time spent in @link BoardPool.take.
+     */
+    private final LatencyHistogram takeLatency = new LatencyHistogram();
+
+
+    /**
+     * The class' constructor. The pool starts generating its boards right away.
+     * @param seeds The generator of the boards' seeds.
+     * @param capacity The amount of boards generated ahead of time. 0 generates each board when it is taken.
+     * <pre>{@code
+     * BoardPool pool = new BoardPool(new GameRandom(42), 2);
+     * }</pre>
+     */
+    public BoardPool(GameRandom seeds, int capacity)
+    {
+        this.seeds = seeds;
+        this.capacity = Math.max(0, capacity);
+        this.refill();
+    }
+
+
+    /**
+     * Takes the next board. If the board is not ready yet, it is generated on the calling thread (or awaited when its
+     * generation already started). The pool is then refilled.
+     * @return the next board.
+     * <pre>{@code
+     * BoardPool pool = new BoardPool(new GameRandom(42), 2);
+     * TileVariant[][] board = pool.take();
+     * }</pre>
+     */
+    public TileVariant[][] take()
+    {
+        long start = System.nanoTime();
+        PendingBoard next = this.pending.isEmpty() ? new PendingBoard(this.seeds) : this.pending.poll();
+        if (next.future != null && next.future.isDone()) this.hits++;
+        else this.misses++;
+        // A board claimed by a background thread is awaited, an unclaimed one is generated here
+        if (next.future == null || next.started.compareAndSet(false, true))
+        {
+            if (next.future != null) next.future.cancel(false);
+            next.run();
+        }
+        TileVariant[][] board;
+        try { board = next.future.get(); }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            board = generate(next.seed);
+        }
+        catch (ExecutionException e) { throw new IllegalStateException("Board generation failed", e.getCause()); }
+        this.generationLatency.record(next.generationNanos);
+        this.refill();
+        this.takeLatency.record(System.nanoTime() - start);
+        return board;
+    }
+
+
+    /**
+     * Returns the state of the pool's seeds : the state of the generator before the seeds of the pending boards were
+     * drawn. A pool set to this state gives the same boards as this one.
+     * @return the state of the pool's seeds.
+     * <pre>{@code
+     * long state = pool.getSeedState();
+     * }</pre>
+     */
+    public long getSeedState()
+    {
+        return this.pending.isEmpty() ? this.seeds.getState() : this.pending.peek().seedState;
+    }
+
+
+    /**
+     * Sets the state of the pool's seeds. The pending boards are dropped and the pool is refilled from the new state.
+     * @param state The state, returned by @link BoardPool.getSeedState.
+     * <pre>{@code
+     * pool.setSeedState(other.getSeedState());
+     * }</pre>
+     */
+    public void setSeedState(long state)
+    {
+        if (state == this.getSeedState()) return;
+        for (PendingBoard board : this.pending)
+        {
+            board.started.set(true);
+            board.future.cancel(false);
+        }
+        this.pending.clear();
+        this.seeds.setState(state);
+        this.refill();
+    }
+
+
+    /**
+     * Submits new boards until the pool holds its capacity.
+     * <pre>{@code
+     * this.refill();
+     * }</pre>
+     */
+    private void refill()
+    {
+        while (this.pending.size() < this.capacity)
+        {
+            PendingBoard board = new PendingBoard(this.seeds);
+            board.future = EXECUTOR.submit(board::generateInBackground);
+            this.pending.add(board);
+        }
+    }
+
+
+    /**
+     * Generates a board of the configured size from the given seed. The shared cache is not used : a shuffle's seed is
+     * never requested again.
+     * @param seed The board's seed.
+     * @return the generated board.
+     * <pre>{@code
+     * TileVariant[][] board = generate(42);
+     * }</pre>
+     */
+    private static TileVariant[][] generate(long seed)
+    {
+        return SceneGenerator.generate(seed, Configs.BOARD_WIDTH, Configs.BOARD_HEIGHT);
+    }
+
+
+    /**
+     * Returns the amount of boards taken ready.
+     * @return the amount of hits.
+     * <pre>{@code
+     * long hits = pool.getHits();
+     * }</pre>
+     */
+    public long getHits()
+    {
+        return this.hits;
+    }
+
+
+    /**
+     * Returns the amount of boards taken before they were ready.
+     * @return the amount of misses.
+     * <pre>{@code
+     * long misses = pool.getMisses();
+     * }</pre>
+     */
+    public long getMisses()
+    {
+        return this.misses;
+    }
+
+
+    /**
+     * Returns the boards' generation time.
+     * @return the generation time's histogram.
+     * <pre>{@code
+     * LatencyHistogram latency = pool.getGenerationLatency();
+     * }</pre>
+     */
+    public LatencyHistogram getGenerationLatency()
+    {
+        return this.generationLatency;
+    }
+
+
+    /**
+     * Returns the time spent taking a board, waiting included.
+     * @return the take time's histogram.
+     * <pre>{@code
+     * LatencyHistogram latency = pool.getTakeLatency();
+     * }</pre>
+     */
+    public LatencyHistogram getTakeLatency()
+    {
+        return this.takeLatency;
+    }
+
+
+    /**
+     * Returns a summary of the pool's metrics.
+     * @return a summary of the pool's metrics.
+     * <pre>{@code
+     * System.out.println(pool);
+     * }</pre>
+     */
+    @Override
+    public String toString()
+    {
+        return String.format(
+            "%d hits, %d misses, generation : %s, take : %s",
+            this.hits, this.misses, this.generationLatency, this.takeLatency
+        );
+    }
+
+
+    /**
+     * A board being generated from its seed.
+     */
+    private static final class PendingBoard
+    {
+        /**
+         * The state of the seeds' generator before the board's seed was drawn.
+         */
+        final long seedState;
+
+
+        /**
+         * The board's seed.
+         */
+        final long seed;
+
+
+        /**
+         * The board's generation. Null until the board is submitted or generated.
+         */
+        Future<TileVariant[][]> future;
+
+
+        /**
+         * Set by the first thread generating the board : the game's thread or a background thread.
+         */
+        final AtomicBoolean started = new AtomicBoolean(false);
+
+
+        /**
+         * The board's generation time in nanoseconds. Written by the generating thread before the future completes.
+         */
+        long generationNanos;
+
+
+        /**
+         * The class' constructor. Draws the board's seed.
+         * @param seeds The generator of the boards' seeds.
+         * <pre>{@code
+         * PendingBoard board = new PendingBoard(this.seeds);
+         * }</pre>
+         */
+        PendingBoard(GameRandom seeds)
+        {
+            this.seedState = seeds.getState();
+            this.seed = seeds.nextLong();
+        }
+
+
+        /**
+         * Generates the board and measures the generation time.
+         * @return the generated board.
+         * <pre>{@code
+         * TileVariant[][] board = pendingBoard.generate();
+         * }</pre>
+         */
+        TileVariant[][] generate()
+        {
+            long start = System.nanoTime();
+            TileVariant[][] board = BoardPool.generate(this.seed);
+            this.generationNanos = System.nanoTime() - start;
+            return board;
+        }
+
+
+        /**
+         * Generates the board on a background thread, unless another thread claimed it first.
+         * @return the generated board, null if the board was claimed by another thread.
+         * <pre>{@code
+         * board.future = EXECUTOR.submit(board::generateInBackground);
+         * }</pre>
+         */
+        TileVariant[][] generateInBackground()
+        {
+            return this.started.compareAndSet(false, true) ? this.generate() : null;
+        }
+
+
+        /**
+         * Generates the board on the calling thread. The board must have been claimed by the calling thread.
+         * <pre>{@code
+         * pendingBoard.run();
+         * }</pre>
+         */
+        void run()
+        {
+            FutureTask<TileVariant[][]> task = new FutureTask<>(this::generate);
+            this.future = task;
+            task.run();
+        }
+    }
+}
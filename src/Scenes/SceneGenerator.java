@@ -2,10 +2,10 @@ package Scenes;
 
 import Components.TileVariant;
 import Utilities.Configs;
-import java.util.ArrayList;
+import Utilities.GameRandom;
 import java.util.Arrays;
-import java.util.Random;
-import java.util.Stack;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
 
 /**
@@ -14,19 +14,57 @@ import java.util.Stack;
 public class SceneGenerator
 {
     /**
-     * Stack used for maze generation.
+     * The generator's version. Must be incremented whenever the boards generated from a seed change, as the cached
+     * boards are keyed by it (see @link BoardCache).
      */
-    private Stack<Node> stack = new Stack<>();
+    public static final int VERSION = 1;
 
 
     /**
-     * Random module initialization.
+     * Stack of packed cell ids used for maze generation, reused from one board to the next.
      */
-    private Random rand = new Random();
+    private int[] stack = new int[64];
 
 
     /**
-     * Generates a random board.
+     * Scratch buffer holding the neighbours of the carved cell.
+     */
+    private final int[] neighbors = new int[4];
+
+
+    /**
+     * The random generator used to carve the maze.
+     */
+    private final GameRandom rand;
+
+
+    /**
+     * The class' constructor. The generator is seeded with a random seed.
+     * <pre>{@code
+     * SceneGenerator generator = new SceneGenerator();
+     * }</pre>
+     */
+    public SceneGenerator()
+    {
+        this(new GameRandom(GameRandom.randomSeed()));
+    }
+
+
+    /**
+     * The class' constructor. The same random generator's state always produces the same boards.
+     * @param rand The random generator used to carve the maze.
+     * <pre>{@code
+     * SceneGenerator generator = new SceneGenerator(new GameRandom(42));
+     * }</pre>
+     */
+    public SceneGenerator(GameRandom rand)
+    {
+        this.rand = rand;
+    }
+
+
+    /**
+     * Generates a random board of the configured size.
      * @return a new board.
      * <pre>{@code
      * SceneGenerator generator = new SceneGenerator();
@@ -35,12 +73,166 @@ public class SceneGenerator
      */
     public TileVariant[][] generateRandomBoard()
     {
-        TileVariant[][] board = new TileVariant[Configs.BOARD_WIDTH][Configs.BOARD_HEIGHT];
+        return this.generateRandomBoard(Configs.BOARD_WIDTH, Configs.BOARD_HEIGHT);
+    }
+
+
+    /**
+     * Generates a board from the given seed. The same seed and dimensions always produce the same board, as long as
+     * @link SceneGenerator.VERSION does not change.
+     * @param seed The board's seed.
+     * @param width The board's width (first index).
+     * @param height The board's height (second index).
+     * @return a new board.
+     * <pre>{@code
+     * TileVariant[][] board = SceneGenerator.generate(42, 21, 21);
+     * }</pre>
+     */
+    public static TileVariant[][] generate(long seed, int width, int height)
+    {
+        return new SceneGenerator(new GameRandom(seed)).generateRandomBoard(width, height);
+    }
+
+
+    /**
+     * Generates a random board. The large boards (see @link Configs.TILED_GENERATION_MIN_CELLS) are generated by
+     * tiles on the common ForkJoinPool.
+     * @param width The board's width (first index).
+     * @param height The board's height (second index).
+     * @return a new board.
+     * <pre>{@code
+     * SceneGenerator generator = new SceneGenerator();
+     * TileVariant[][] board = generator.generateRandomBoard(21, 21);
+     * }</pre>
+     */
+    public TileVariant[][] generateRandomBoard(int width, int height)
+    {
+        if ((long) width * height >= Configs.TILED_GENERATION_MIN_CELLS)
+            return generateTiledBoard(
+                this.rand.nextLong(), width, height, Configs.GENERATION_TILE_SIZE, ForkJoinPool.commonPool()
+            );
+        TileVariant[][] board = new TileVariant[width][height];
         for (TileVariant[] line : board) Arrays.fill(line, TileVariant.EMPTY);
         return fillIsolatedPatches(insertShapes(createAxes(generateMaze(board))));
     }
 
 
+    /**
+     * Generates a random board by tiles, in parallel on the given pool. Each tile's maze is carved from a generator
+     * seeded with the board's seed and the tile's coordinates, so the board only depends on its seed, its dimensions
+     * and the tile size, whatever the pool. Each tile is crossed by two corridors running over the whole board, plus
+     * the axes opened every EMPTY_SPACE as on the small boards : the tiles are always connected, and the corridors
+     * open the board's frame for the wrap-around effect. The patches of
+     * a tile which do not reach its corridors are filled, then the spawning areas are placed.
+     * @param seed The board's seed.
+     * @param width The board's width (first index).
+     * @param height The board's height (second index).
+     * @param tileSize The width and height of the tiles.
+     * @param pool The pool carving the tiles.
+     * @return a new board.
+     * <pre>{@code
+     * TileVariant[][] board = SceneGenerator.generateTiledBoard(42, 4096, 4096, 256, ForkJoinPool.commonPool());
+     * }</pre>
+     */
+    public static TileVariant[][] generateTiledBoard(long seed, int width, int height, int tileSize, ForkJoinPool pool)
+    {
+        TileVariant[][] board = new TileVariant[width][height];
+        int tilesX = (width + tileSize - 1) / tileSize, tilesY = (height + tileSize - 1) / tileSize;
+        pool.submit(() -> IntStream.range(0, tilesX * tilesY).parallel().forEach(
+            tile -> generateTile(board, seed, tile / tilesY, tile % tilesY, tileSize)
+        )).join();
+        return placeSpawningArea(board);
+    }
+
+
+    /**
+     * Generates a tile of a board generated by tiles : carves its maze, walls its part of the board's frame, opens
+     * its corridors and fills its isolated patches. Only writes in the tile.
+     * @param board The board.
+     * @param seed The board's seed.
+     * @param tileX The tile's X index.
+     * @param tileY The tile's Y index.
+     * @param tileSize The width and height of the tiles.
+     * <pre>{@code
+     * generateTile(board, 42, 3, 5, 256);
+     * }</pre>
+     */
+    private static void generateTile(TileVariant[][] board, long seed, int tileX, int tileY, int tileSize)
+    {
+        int width = board.length, height = board[0].length;
+        int x0 = tileX * tileSize, y0 = tileY * tileSize;
+        int tileWidth = Math.min(tileSize, width - x0), tileHeight = Math.min(tileSize, height - y0);
+        TileVariant[][] tile = new TileVariant[tileWidth][tileHeight];
+        for (TileVariant[] line : tile) Arrays.fill(line, TileVariant.EMPTY);
+        GameRandom random = new GameRandom(seed ^ (((long) tileX << 32) | tileY)).split();
+        new SceneGenerator(random).generateMaze(tile);
+
+        // The corridors only depend on the tile's coordinates and on the board's size : they line up with the
+        // neighbouring tiles' ones. As in @link SceneGenerator.insertShapes, a line every EMPTY_SPACE is opened.
+        boolean[] corridor = new boolean[tileWidth * tileHeight];
+        for (int x = 0; x < tileWidth; x++)
+        {
+            for (int y = 0; y < tileHeight; y++)
+            {
+                int bx = x0 + x, by = y0 + y;
+                boolean open = x == tileWidth / 2 || y == tileHeight / 2
+                    || Math.abs(bx - width / 2) % Configs.EMPTY_SPACE == 0
+                    || Math.abs(by - height / 2) % Configs.EMPTY_SPACE == 0;
+                if (open) tile[x][y] = TileVariant.EMPTY;
+                else if (bx == 0 || by == 0 || bx == width - 1 || by == height - 1) tile[x][y] = TileVariant.WALL;
+                corridor[x * tileHeight + y] = open;
+            }
+        }
+
+        boolean[] reached = new boolean[tileWidth * tileHeight];
+        int[] stack = new int[tileWidth * tileHeight];
+        int top = 0;
+        for (int cell = 0; cell < corridor.length; cell++)
+        {
+            if (!corridor[cell]) continue;
+            reached[cell] = true;
+            stack[top++] = cell;
+        }
+        while (top > 0)
+        {
+            int cell = stack[--top], x = cell / tileHeight, y = cell % tileHeight;
+            if (x > 0) top = reach(tile, reached, stack, top, x - 1, y);
+            if (x < tileWidth - 1) top = reach(tile, reached, stack, top, x + 1, y);
+            if (y > 0) top = reach(tile, reached, stack, top, x, y - 1);
+            if (y < tileHeight - 1) top = reach(tile, reached, stack, top, x, y + 1);
+        }
+        for (int x = 0; x < tileWidth; x++)
+        {
+            for (int y = 0; y < tileHeight; y++)
+                board[x0 + x][y0 + y] = reached[x * tileHeight + y] ? TileVariant.EMPTY : TileVariant.WALL;
+        }
+    }
+
+
+    /**
+     * Marks the given tile's cell as reached and pushes it on the flood fill's stack, unless it is a wall or already
+     * reached.
+     * @param tile The tile.
+     * @param reached The reached cells.
+     * @param stack The flood fill's stack.
+     * @param top The stack's size.
+     * @param x The cell's X coordinate in the tile.
+     * @param y The cell's Y coordinate in the tile.
+     * @return the new stack's size.
+     * <pre>{@code
+     * top = reach(tile, reached, stack, top, 5, 10);
+     * }</pre>
+     */
+    private static int reach(TileVariant[][] tile, boolean[] reached, int[] stack, int top, int x, int y)
+    {
+        int cell = x * tile[0].length + y;
+        if (reached[cell] || tile[x][y] == TileVariant.WALL) return top;
+        reached[cell] = true;
+        stack[top] = cell;
+        return top + 1;
+    }
+
+
     /**
      * Add axes to the given board to produce the wrap-around effect.
      * @param board The board.
@@ -85,15 +277,17 @@ public class SceneGenerator
         }
         for (int l = 0; l < yMiddle; l += Configs.EMPTY_SPACE)
         {
-            for (int i = 0; i < board.length; i++) board[yMiddle + l][i] = TileVariant.EMPTY;
-            for (int i = 0; i < board.length; i++) board[yMiddle - l][i] = TileVariant.EMPTY;
+            for (int i = 0; i < board[0].length; i++) board[yMiddle + l][i] = TileVariant.EMPTY;
+            for (int i = 0; i < board[0].length; i++) board[yMiddle - l][i] = TileVariant.EMPTY;
         }
         return board;
     }
 
 
     /**
-     * Fills isolated patches on the given board. Otherwise, the game will be endless.
+     * Fills isolated patches on the given board. Otherwise, the game will be endless. The patches are labelled with
+     * an iterative flood fill : each open tile is visited once, whatever the board's size. Only the largest patches
+     * are kept.
      * @param board The board
      * @return The board with isolated patches.
      * <pre>{@code
@@ -104,44 +298,72 @@ public class SceneGenerator
      */
     private TileVariant[][] fillIsolatedPatches(TileVariant[][] board)
     {
-        ArrayList<ArrayList<Node>> patches = new ArrayList<ArrayList<Node>>();
-        for (int row = 0; row < board.length; row++)
+        int rows = board.length, cols = board[0].length;
+        // labels[cell] is the patch of the tile (cell = row * cols + col), 0 for walls and unvisited tiles
+        int[] labels = new int[rows * cols];
+        int[] sizes = new int[16];
+        int[] stack = new int[rows * cols];
+        int patches = 0, maxLength = 0;
+        for (int start = 0; start < labels.length; start++)
         {
-            for (int col = 0; col < board[row].length; col++)
+            if (labels[start] != 0 || board[start / cols][start % cols] == TileVariant.WALL) continue;
+            if (++patches == sizes.length) sizes = Arrays.copyOf(sizes, 2 * sizes.length);
+            int size = 0, top = 0;
+            labels[start] = patches;
+            stack[top++] = start;
+            while (top > 0)
             {
-                if (board[row][col] == TileVariant.WALL) continue;
-                if (this.tileIsInPatch(patches, new Node(row, col))) continue;;
-                patches.add(calculatePatch(board, row, col, new ArrayList<Node>()));
+                int cell = stack[--top], x = cell / cols, y = cell % cols;
+                size++;
+                if (x > 0) top = this.visit(board, labels, stack, top, x - 1, y, patches);
+                if (x < rows - 1) top = this.visit(board, labels, stack, top, x + 1, y, patches);
+                if (y < cols - 1) top = this.visit(board, labels, stack, top, x, y + 1, patches);
+                if (y > 0) top = this.visit(board, labels, stack, top, x, y - 1, patches);
             }
+            sizes[patches] = size;
+            maxLength = Math.max(maxLength, size);
         }
-        int maxLength = patches.stream().map(ArrayList::size).max((a, b) -> (a < b) ? b : a).orElse(0);
-        ArrayList<Node> mainPatch = new ArrayList<Node>();
-        for(ArrayList<Node> patch : patches)
-        {
-            if (patch.size() == maxLength)
-            {
-                mainPatch = patch;
-                continue;
-            }
-            for(Node node : patch) board[node.x][node.y] = TileVariant.WALL;
-        }
-        return placeSpawningArea(board, mainPatch);
+        for (int cell = 0; cell < labels.length; cell++)
+            if (labels[cell] != 0 && sizes[labels[cell]] != maxLength) board[cell / cols][cell % cols] = TileVariant.WALL;
+        return placeSpawningArea(board);
+    }
+
+
+    /**
+     * Labels the given tile and pushes it on the flood fill's stack, unless it is a wall or already labelled.
+     * @param board The board.
+     * @param labels The tiles' patches.
+     * @param stack The flood fill's stack.
+     * @param top The stack's size.
+     * @param x The tile's X coordinate.
+     * @param y The tile's Y coordinate.
+     * @param patch The current patch.
+     * @return the new stack's size.
+     * <pre>{@code
+     * top = this.visit(board, labels, stack, top, 5, 10, 1);
+     * }</pre>
+     */
+    private int visit(TileVariant[][] board, int[] labels, int[] stack, int top, int x, int y, int patch)
+    {
+        int cell = x * board[0].length + y;
+        if (labels[cell] != 0 || board[x][y] == TileVariant.WALL) return top;
+        labels[cell] = patch;
+        stack[top] = cell;
+        return top + 1;
     }
 
 
     /**
      * Places the spawning areas on the board.
      * @param board The board.
-     * @param freeTiles The empty tiles.
      * @return The board with the spawners.
      * <pre>{@code
      * SceneGenerator generator = new SceneGenerator();
      * TileVariant[][] board = ...;
-     * ArrayList<Node> freeTiles = ...;
-     * TileVariant[][] boardWithAxes = generator.placeSpawningArea(board, freeTiles);
+     * TileVariant[][] boardWithAxes = generator.placeSpawningArea(board);
      * }</pre>
      */
-    private TileVariant[][] placeSpawningArea(TileVariant[][] board, ArrayList<Node> freeTiles)
+    private static TileVariant[][] placeSpawningArea(TileVariant[][] board)
     {
         for (int i = 0; i < board.length - 2; i++)
             if (board[1][1 + i] == TileVariant.EMPTY) break;
@@ -186,71 +408,8 @@ public class SceneGenerator
 
 
     /**
-     * Checks if the given tile is in the given patches.
-     * @param patches The given patches.
-     * @param tile The tile.
-     * @return true if the given tile is in the given patches.
-     * <pre>{@code
-     * SceneGenerator generator = new SceneGenerator();
-     * ArrayList<ArrayList<Node>> patches = ...;
-     * Node tile = ...;
-     * Boolean bool = generator.tileIsInPatch(patches, tile);
-     * }</pre>
-     */
-    private Boolean tileIsInPatch(ArrayList<ArrayList<Node>> patches, Node tile)
-    {
-        for (ArrayList<Node> patch : patches) if (nodeIsInPatch(patch, tile)) return true;
-        return false;
-    }
-
-
-    /**
-     * Generate a patch from a given tile.
-     * @param board The board.
-     * @param x The studied tile's X coordinate.
-     * @param y The studied tile's Y coordinate.
-     * @param patch The constructed patch.
-     * @return a patch from a given tile.
-     * <pre>{@code
-     * SceneGenerator generator = new SceneGenerator();
-     * TileVariant[][] board = ...;
-     * ArrayList<Node> patch = new ArrayList<>()
-     * ArrayList<Node> filledPatch = calculatePatch(board, 5, 10, patch);
-     * }</pre>
-     */
-    private ArrayList<Node> calculatePatch(TileVariant[][] board, int x, int y, ArrayList<Node> patch)
-    {
-        if (board[x][y] == TileVariant.WALL) return patch;
-        if (nodeIsInPatch(patch, new Node(x, y))) return patch;
-        patch.add(new Node(x, y));
-        if (x > 0) patch = calculatePatch(board, x - 1, y, patch);
-        if (x < board.length - 1) patch = calculatePatch(board, x + 1, y, patch);
-        if (y < board.length - 1) patch = calculatePatch(board, x, y + 1, patch);
-        if (y > 0) patch = calculatePatch(board, x, y - 1, patch);
-        return patch;
-    }
-
-
-    /**
-     * Checks if the given node is in the given patch.
-     * @param patch The patch
-     * @param node The node
-     * @return true if the given node is in the given patch.
-     * <pre>{@code
-     * ArrayList<Node> patch = ...;
-     * Node node = ...;
-     * Boolean bool = this.nodeIsInPatch(patch, node);
-     * }</pre>
-     */
-    private Boolean nodeIsInPatch(ArrayList<Node> patch, Node node)
-    {
-        for(Node n : patch) if (n.x == node.x && n.y == node.y) return true;
-        return false;
-    }
-
-
-    /**
-     * Generates a maze.
+     * Generates a maze. The carving is a depth-first walk over an int stack of packed cell ids
+     * (<code>y * width + x</code>) : no object is allocated per visited cell.
      * @param board The empty board.
      * @return The board filled with a maze.
      * <pre>{@code
@@ -260,15 +419,18 @@ public class SceneGenerator
      */
     private TileVariant[][] generateMaze(TileVariant[][] board)
     {
-        stack.push(new Node(0,0));
-        while (!stack.empty())
+        int width = board[0].length;
+        int top = 0;
+        this.stack[top++] = 0;
+        while (top > 0)
         {
-            Node next = stack.pop();
-            if (validNextNode(next, board))
+            int next = this.stack[--top], x = next % width, y = next / width;
+            if (validNextNode(x, y, board))
             {
-                board[next.y][next.x] = TileVariant.WALL;
-                ArrayList<Node> neighbors = findNeighbors(next);
-                randomlyAddNodesToStack(neighbors);
+                board[y][x] = TileVariant.WALL;
+                int count = findNeighbors(x, y, board);
+                if (top + count > this.stack.length) this.stack = Arrays.copyOf(this.stack, 2 * this.stack.length);
+                top = randomlyAddNodesToStack(count, top);
             }
         }
         return board;
@@ -277,62 +439,66 @@ public class SceneGenerator
 
     /**
      * Checks if the next node is valid.
-     * @param node The next node.
+     * @param nodeX The next node's X coordinate.
+     * @param nodeY The next node's Y coordinate.
      * @param board The board.
      * @return true if the next node is valid.
      * <pre>{@code
-     * Node node = ...;
      * TileVariant[][] board = ...;
-     * Boolean bool = this.validNextNode(node, board);
+     * boolean bool = this.validNextNode(5, 10, board);
      * }</pre>
      */
-    private boolean validNextNode(Node node, TileVariant[][] board)
+    private boolean validNextNode(int nodeX, int nodeY, TileVariant[][] board)
     {
         int numNeighboringOnes = 0;
-        for (int y = node.y - 1; y < node.y + 2; y++)
-            for (int x = node.x - 1; x < node.x + 2; x++)
-                if (pointOnGrid(x, y) && pointNotNode(node, x, y) && board[y][x] == TileVariant.WALL)
+        for (int y = nodeY - 1; y < nodeY + 2; y++)
+            for (int x = nodeX - 1; x < nodeX + 2; x++)
+                if (pointOnGrid(x, y, board) && !(x == nodeX && y == nodeY) && board[y][x] == TileVariant.WALL)
                     numNeighboringOnes++;
-        return (numNeighboringOnes < 3) && board[node.y][node.x] != TileVariant.WALL;
+        return (numNeighboringOnes < 3) && board[nodeY][nodeX] != TileVariant.WALL;
     }
 
 
     /**
-     * Add random nodes to the stack.
-     * @param nodes The given node.
+     * Pushes the neighbours found by @link SceneGenerator.findNeighbors on the stack in a random order. Each pushed
+     * neighbour is drawn among the remaining ones, which are shifted in place in the scratch buffer.
+     * @param count The amount of neighbours in the scratch buffer.
+     * @param top The stack's size.
+     * @return the new stack's size.
      * <pre>{@code
-     * ArrayList<Node> nodes = ...;
-     * this.randomlyAddNodesToStack(nodes);
+     * top = this.randomlyAddNodesToStack(this.findNeighbors(5, 10, board), top);
      * }</pre>
      */
-    private void randomlyAddNodesToStack(ArrayList<Node> nodes)
+    private int randomlyAddNodesToStack(int count, int top)
     {
-        int targetIndex;
-        while (!nodes.isEmpty())
+        for (int size = count; size > 0; size--)
         {
-            targetIndex = rand.nextInt(nodes.size());
-            stack.push(nodes.remove(targetIndex));
+            int targetIndex = rand.nextInt(size);
+            this.stack[top++] = this.neighbors[targetIndex];
+            System.arraycopy(this.neighbors, targetIndex + 1, this.neighbors, targetIndex, size - targetIndex - 1);
         }
+        return top;
     }
 
 
     /**
-     * Returns the nodes neighbouring the given node.
-     * @param node The node.
-     * @return the nodes neighbouring the given node.
+     * Writes the cells neighbouring the given node (diagonals excluded) in the scratch buffer.
+     * @param nodeX The node's X coordinate.
+     * @param nodeY The node's Y coordinate.
+     * @param board The board.
+     * @return the amount of neighbours.
      * <pre>{@code
-     * Node node = new Node(10, 5);
-     * ArrayList<Node> neighbours = this.findNeighbors(node);
+     * int count = this.findNeighbors(5, 10, board);
      * }</pre>
      */
-    private ArrayList<Node> findNeighbors(Node node)
+    private int findNeighbors(int nodeX, int nodeY, TileVariant[][] board)
     {
-        ArrayList<Node> neighbors = new ArrayList<>();
-        for (int y = node.y - 1; y < node.y + 2; y++)
-            for (int x = node.x - 1; x < node.x + 2; x++)
-                if (pointOnGrid(x, y) && pointNotCorner(node, x, y) && pointNotNode(node, x, y))
-                    neighbors.add(new Node(x, y));
-        return neighbors;
+        int width = board[0].length, count = 0;
+        if (pointOnGrid(nodeX, nodeY - 1, board)) this.neighbors[count++] = (nodeY - 1) * width + nodeX;
+        if (pointOnGrid(nodeX - 1, nodeY, board)) this.neighbors[count++] = nodeY * width + nodeX - 1;
+        if (pointOnGrid(nodeX + 1, nodeY, board)) this.neighbors[count++] = nodeY * width + nodeX + 1;
+        if (pointOnGrid(nodeX, nodeY + 1, board)) this.neighbors[count++] = (nodeY + 1) * width + nodeX;
+        return count;
     }
 
 
@@ -340,81 +506,39 @@ public class SceneGenerator
      * Checks if the given coordinate are on the grid.
      * @param x The X Coordinate.
      * @param y The Y Coordinate.
+     * @param board The board.
      * @return true if the given coordinate are on the grid.
      * <pre>{@code
-     * Node node = new Node(10, 5);
-     * Boolean bool = this.pointOnGrid(5, 10);
-     * }</pre>
-     */
-    private Boolean pointOnGrid(int x, int y)
-    {
-        return x >= 0 && y >= 0 && x < Configs.BOARD_WIDTH && y < Configs.BOARD_HEIGHT;
-    }
-
-
-    /**
-     * Checks if the given coordinates and the given node are in a corner.
-     * @param node The Node
-     * @param x The X Coordinate
-     * @param y The Y Coordinate
-     * @return true if the given coordinates and the given node are in a corner.
-     * <pre>{@code
-     * Node node = new Node(10, 5);
-     * Boolean bool = this.pointNotCorner(node, 5, 10);
+     * boolean bool = this.pointOnGrid(5, 10, board);
      * }</pre>
      */
-    private Boolean pointNotCorner(Node node, int x, int y)
+    private boolean pointOnGrid(int x, int y, TileVariant[][] board)
     {
-        return (x == node.x || y == node.y);
+        return x >= 0 && y >= 0 && x < board[0].length && y < board.length;
     }
 
 
     /**
-     * Checks if the given coordinate matches with the given node.
-     * @param node The Node
-     * @param x The X Coordinate
-     * @param y The Y Coordinate
-     * @return true if the given coordinate matches with the given node.
+     * Measures the generation's throughput.
+     * @param args [boards] [width] [height]. Defaults to 1000 boards of the configured size.
      * <pre>{@code
-     * Node node = new Node(10, 5);
-     * Boolean bool = this.pointNotNode(node, 5, 10);
+     * java Scenes.SceneGenerator 1000 21 21
      * }</pre>
      */
-    private Boolean pointNotNode(Node node, int x, int y)
+    public static void main(String[] args)
     {
-        return !(x == node.x && y == node.y);
+        int boards = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        if (args.length > 1) Configs.BOARD_WIDTH = Integer.parseInt(args[1]);
+        if (args.length > 2) Configs.BOARD_HEIGHT = Integer.parseInt(args[2]);
+        SceneGenerator generator = new SceneGenerator(new GameRandom(42));
+        for (int i = 0; i < Math.min(boards, 100); i++) generator.generateRandomBoard();
+        long start = System.nanoTime();
+        for (int i = 0; i < boards; i++) generator.generateRandomBoard();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf(
+            "%d boards of %dx%d in %.3f s : %.1f boards/s, %.1f Mcells/s%n", boards, Configs.BOARD_WIDTH,
+            Configs.BOARD_HEIGHT, seconds, boards / seconds,
+            (double) boards * Configs.BOARD_WIDTH * Configs.BOARD_HEIGHT / seconds / 1e6
+        );
     }
 }
-
-
-/**
- * Class used for the maze generation.
- */
-class Node
-{
-    /**
-     * The X coordinate.
-     */
-    public int x;
-
-
-    /**
-     * The Y coordinate.
-     */
-    public int y;
-
-
-    /**
-     * The class' constructor.
-     * @param x The X coordinate.
-     * @param y The Y coordinate.
-     * <pre>{@code
-     * Node node = new Node(10, 5);
-     * }</pre>
-     */
-    public Node(int x, int y)
-    {
-        this.x = x;
-        this.y = y;
-    }
-}
\ No newline at end of file
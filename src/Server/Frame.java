@@ -0,0 +1,144 @@
+package Server;
+
+
+/**
+ * The state of a session sent to its client after each turn.
+ */
+public final class Frame
+{
+    /**
+     * The turn's index.
+     */
+    private final long tick;
+
+
+    /**
+     * The player's score.
+     */
+    private final int score;
+
+
+    /**
+     * The player's lives.
+     */
+    private final int lives;
+
+
+    /**
+     * The remaining tokens.
+     */
+    private final int remainingTokens;
+
+
+    /**
+     * The player's cell id.
+     */
+    private final int playerCell;
+
+
+    /**
+     * true if the game is over.
+     */
+    private final boolean gameOver;
+
+
+    /**
+     * The class' constructor.
+     * @param tick The turn's index.
+     * @param score The player's score.
+     * @param lives The player's lives.
+     * @param remainingTokens The remaining tokens.
+     * @param playerCell The player's cell id.
+     * @param gameOver true if the game is over.
+     * <pre>{@code
+     * Frame frame = new Frame(10, 2500, 3, 120, 215, false);
+     * }</pre>
+     */
+    public Frame(long tick, int score, int lives, int remainingTokens, int playerCell, boolean gameOver)
+    {
+        this.tick = tick;
+        this.score = score;
+        this.lives = lives;
+        this.remainingTokens = remainingTokens;
+        this.playerCell = playerCell;
+        this.gameOver = gameOver;
+    }
+
+
+    /**
+     * Returns the turn's index.
+     * @return the turn's index.
+     * <pre>{@code
+     * long tick = frame.getTick();
+     * }</pre>
+     */
+    public long getTick()
+    {
+        return this.tick;
+    }
+
+
+    /**
+     * Returns the player's score.
+     * @return the player's score.
+     * <pre>{@code
+     * int score = frame.getScore();
+     * }</pre>
+     */
+    public int getScore()
+    {
+        return this.score;
+    }
+
+
+    /**
+     * Returns the player's lives.
+     * @return the player's lives.
+     * <pre>{@code
+     * int lives = frame.getLives();
+     * }</pre>
+     */
+    public int getLives()
+    {
+        return this.lives;
+    }
+
+
+    /**
+     * Returns the remaining tokens.
+     * @return the remaining tokens.
+     * <pre>{@code
+     * int tokens = frame.getRemainingTokens();
+     * }</pre>
+     */
+    public int getRemainingTokens()
+    {
+        return this.remainingTokens;
+    }
+
+
+    /**
+     * Returns the player's cell id.
+     * @return the player's cell id.
+     * <pre>{@code
+     * int cell = frame.getPlayerCell();
+     * }</pre>
+     */
+    public int getPlayerCell()
+    {
+        return this.playerCell;
+    }
+
+
+    /**
+     * Indicates if the game is over.
+     * @return true if the game is over.
+     * <pre>{@code
+     * boolean bool = frame.isGameOver();
+     * }</pre>
+     */
+    public boolean isGameOver()
+    {
+        return this.gameOver;
+    }
+}
@@ -0,0 +1,221 @@
+package Server;
+
+import Logic.GameManager;
+import Utilities.Utils;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * A game hosted by a @link Server.SessionHost. The session runs its game on its own virtual thread : an idle or
+ * slow-ticking session only costs its game's memory. The client sends the player's directions through the input
+ * channel and receives a @link Server.Frame after each turn through the output channel.
+ */
+public class Session implements Runnable
+{
+    /**
+     * The amount of frames kept for the client. The oldest frames are dropped when the client is too slow.
+     */
+    private static final int OUTPUT_CAPACITY = 8;
+
+
+    /**
+     * The session's id.
+     */
+    private final long id;
+
+
+    /**
+     * The hosted game.
+     */
+    private final GameManager game;
+
+
+    /**
+     * The duration of a turn in milliseconds.
+     */
+    private final long tickMillis;
+
+
+    /**
+     * The directions sent by the client, applied at the start of the next turn.
+     */
+    private final ConcurrentLinkedQueue<Utils.Moving> input = new ConcurrentLinkedQueue<>();
+
+
+    /**
+     * The frames sent to the client.
+     */
+    private final ArrayBlockingQueue<Frame> output = new ArrayBlockingQueue<>(OUTPUT_CAPACITY);
+
+
+    /**
+     * The amount of turns played.
+     */
+    private long ticks = 0;
+
+
+    /**
+     * Flag set when the session must stop.
+     */
+    private volatile boolean closed = false;
+
+
+    /**
+     * The class' constructor.
+     * @param id The session's id.
+     * @param seed The game's seed.
+     * @param tickMillis The duration of a turn in milliseconds.
+     * <pre>{@code
+     * Session session = new Session(1, 42, 333);
+     * }</pre>
+     */
+    public Session(long id, long seed, long tickMillis)
+    {
+        this.id = id;
+        // No boards generated ahead of time nor cached : thousands of sessions would flood the shared pool's threads and
+        // the shared cache with boards never requested again
+        this.game = new GameManager(seed, 0, false);
+        this.tickMillis = tickMillis;
+    }
+
+
+    /**
+     * Plays the game until it is over or until the session is closed.
+     */
+    @Override
+    public void run()
+    {
+        long next = System.nanoTime();
+        while (!this.closed)
+        {
+            next += TimeUnit.MILLISECONDS.toNanos(this.tickMillis);
+            long delay = next - System.nanoTime();
+            if (delay > 0)
+            {
+                try { TimeUnit.NANOSECONDS.sleep(delay); }
+                catch (InterruptedException e) { break; }
+            }
+            Utils.Moving direction, last = null;
+            while ((direction = this.input.poll()) != null) last = direction;
+            if (last != null) this.game.getPlayer().changeDirection(last);
+            this.game.tick();
+            this.ticks++;
+            this.publish();
+            if (this.game.isGameOver()) break;
+        }
+        this.closed = true;
+    }
+
+
+    /**
+     * Sends the current state to the client. The oldest frame is dropped if the client is too slow.
+     * <pre>{@code
+     * this.publish();
+     * }</pre>
+     */
+    private void publish()
+    {
+        Frame frame = new Frame(
+            this.ticks,
+            this.game.getScore(),
+            this.game.getLives(),
+            this.game.getRemainingTokens(),
+            this.game.getBoard().getPlayerCell(),
+            this.game.isGameOver()
+        );
+        while (!this.output.offer(frame)) this.output.poll();
+    }
+
+
+    /**
+     * Sends the player's direction. The direction is applied at the start of the next turn.
+     * @param direction The player's direction.
+     * <pre>{@code
+     * session.send(Utils.Moving.UP);
+     * }</pre>
+     */
+    public void send(Utils.Moving direction)
+    {
+        this.input.offer(direction);
+    }
+
+
+    /**
+     * Returns the next frame or null if no frame has been sent.
+     * @return the next frame or null if no frame has been sent.
+     * <pre>{@code
+     * Frame frame = session.poll();
+     * }</pre>
+     */
+    public Frame poll()
+    {
+        return this.output.poll();
+    }
+
+
+    /**
+     * Waits for the next frame.
+     * @return the next frame.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     * <pre>{@code
+     * Frame frame = session.take();
+     * }</pre>
+     */
+    public Frame take() throws InterruptedException
+    {
+        return this.output.take();
+    }
+
+
+    /**
+     * Asks the session to stop. The session stops before its next turn.
+     * <pre>{@code
+     * session.close();
+     * }</pre>
+     */
+    public void close()
+    {
+        this.closed = true;
+    }
+
+
+    /**
+     * Indicates if the session is closed.
+     * @return true if the session is closed.
+     * <pre>{@code
+     * boolean bool = session.isClosed();
+     * }</pre>
+     */
+    public boolean isClosed()
+    {
+        return this.closed;
+    }
+
+
+    /**
+     * Returns the session's id.
+     * @return the session's id.
+     * <pre>{@code
+     * long id = session.getId();
+     * }</pre>
+     */
+    public long getId()
+    {
+        return this.id;
+    }
+
+
+    /**
+     * Returns the hosted game.
+     * @return the hosted game.
+     * <pre>{@code
+     * GameManager game = session.getGame();
+     * }</pre>
+     */
+    public GameManager getGame()
+    {
+        return this.game;
+    }
+}
@@ -0,0 +1,200 @@
+package Server;
+
+import Utilities.GameRandom;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Hosts game sessions in the same JVM. Each session runs on its own virtual thread, so thousands of idle or
+ * slow-ticking sessions share a few carrier threads. Sessions are removed from the host once over or closed.
+ */
+public class SessionHost
+{
+    /**
+     * The running sessions, mapped to their ids.
+     */
+    private final ConcurrentHashMap<Long, Session> sessions = new ConcurrentHashMap<>();
+
+
+    /**
+     * The sessions' virtual threads, mapped to the sessions' ids.
+     */
+    private final ConcurrentHashMap<Long, Thread> threads = new ConcurrentHashMap<>();
+
+
+    /**
+     * The next session's id.
+     */
+    private final AtomicLong nextId = new AtomicLong();
+
+
+    /**
+     * The class' constructor.
+     * <pre>{@code
+     * SessionHost host = new SessionHost();
+     * }</pre>
+     */
+    public SessionHost()
+    {
+        super();
+    }
+
+
+    /**
+     * Creates a session and starts it on a new virtual thread.
+     * @param seed The game's seed.
+     * @param tickMillis The duration of a turn in milliseconds.
+     * @return the new session.
+     * <pre>{@code
+     * SessionHost host = new SessionHost();
+     * Session session = host.open(42, 333);
+     * }</pre>
+     */
+    public Session open(long seed, long tickMillis)
+    {
+        long id = this.nextId.incrementAndGet();
+        Session session = new Session(id, seed, tickMillis);
+        this.sessions.put(id, session);
+        Thread thread = Thread.ofVirtual().name("session-" + id).unstarted(() -> {
+            try { session.run(); }
+            finally
+            {
+                this.sessions.remove(id);
+                this.threads.remove(id);
+            }
+        });
+        this.threads.put(id, thread);
+        thread.start();
+        return session;
+    }
+
+
+    /**
+     * Closes the specified session. Its thread is woken up and stops right away.
+     * @param id The session's id.
+     * <pre>{@code
+     * SessionHost host = new SessionHost();
+     * Session session = host.open(42, 333);
+     * host.close(session.getId());
+     * }</pre>
+     */
+    public void close(long id)
+    {
+        Session session = this.sessions.get(id);
+        if (session != null) session.close();
+        Thread thread = this.threads.get(id);
+        if (thread != null) thread.interrupt();
+    }
+
+
+    /**
+     * Closes all the sessions.
+     * <pre>{@code
+     * SessionHost host = new SessionHost();
+     * host.closeAll();
+     * }</pre>
+     */
+    public void closeAll()
+    {
+        for (Long id : this.sessions.keySet()) this.close(id);
+    }
+
+
+    /**
+     * Returns the specified session.
+     * @param id The session's id.
+     * @return the specified session or null if the session is over or closed.
+     * <pre>{@code
+     * Session session = host.getSession(1);
+     * }</pre>
+     */
+    public Session getSession(long id)
+    {
+        return this.sessions.get(id);
+    }
+
+
+    /**
+     * Returns the amount of running sessions.
+     * @return the amount of running sessions.
+     * <pre>{@code
+     * int sessions = host.getSessionCount();
+     * }</pre>
+     */
+    public int getSessionCount()
+    {
+        return this.sessions.size();
+    }
+
+
+    /**
+     * Measures the heap in use. A garbage collection is requested first, the call is therefore slow : it is meant for
+     * benchmarks only.
+     * @return the heap in use in bytes.
+     * <pre>{@code
+     * long baseline = SessionHost.measureUsedHeap();
+     * }</pre>
+     */
+    public static long measureUsedHeap()
+    {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+
+    /**
+     * Estimates the heap used by a session : the heap used since the given baseline divided by the amount of
+     * sessions. A garbage collection is requested first, the call is therefore slow : it is meant for benchmarks only.
+     * @param baselineHeap The heap in use before the sessions were opened, see @link SessionHost.measureUsedHeap.
+     * @return the estimated heap used by a session in bytes.
+     * <pre>{@code
+     * long baseline = SessionHost.measureUsedHeap();
+     * host.open(42, 333);
+     * long bytes = host.measureHeapPerSession(baseline);
+     * }</pre>
+     */
+    public long measureHeapPerSession(long baselineHeap)
+    {
+        int count = this.getSessionCount();
+        if (count == 0) return 0;
+        return Math.max(0, measureUsedHeap() - baselineHeap) / count;
+    }
+
+
+    /**
+     * Formats the host's state.
+     * @return the formatted state.
+     */
+    @Override
+    public String toString()
+    {
+        return String.format("sessions: %d", this.getSessionCount());
+    }
+
+
+    /**
+     * Opens slow-ticking sessions, prints the host's state then closes them.
+     * @param args Command arguments : [sessions] [tick in ms] [duration in s].
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    public static void main(String[] args) throws InterruptedException
+    {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        long tickMillis = args.length > 1 ? Long.parseLong(args[1]) : 1000;
+        long seconds = args.length > 2 ? Long.parseLong(args[2]) : 5;
+        long baselineHeap = measureUsedHeap();
+        SessionHost host = new SessionHost();
+        GameRandom random = new GameRandom(GameRandom.randomSeed());
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) host.open(random.nextLong(), tickMillis);
+        System.out.printf("opened %d sessions in %.1f ms%n", count, (System.nanoTime() - start) / 1e6);
+        Thread.sleep(seconds * 1000);
+        System.out.printf("%s, heap per session: %.1f KB%n", host, host.measureHeapPerSession(baselineHeap) / 1024.0);
+        start = System.nanoTime();
+        host.closeAll();
+        while (host.getSessionCount() > 0) Thread.sleep(10);
+        System.out.printf("closed all sessions in %.1f ms%n", (System.nanoTime() - start) / 1e6);
+    }
+}
@@ -0,0 +1,86 @@
+package Simulation;
+
+import Logic.GameManager;
+import Utilities.GameRandom;
+
+import java.lang.management.ManagementFactory;
+
+
+/**
+ * Checks that a game turn does not allocate. Plays games with a @link RandomPolicy and measures the bytes allocated
+ * by the calling thread around each @link GameManager.tick. The turns shuffling the board are not counted, as a
+ * shuffle builds a new board.
+ */
+public final class AllocationCheck
+{
+    /**
+     * The bytes the measured turns may allocate in total, to absorb the measurement's own noise.
+     */
+    private static final long TOLERANCE = 1024;
+
+
+    /**
+     * The class' constructor. Not instantiable.
+     */
+    private AllocationCheck() {}
+
+
+    /**
+     * Plays the given amount of turns and returns the bytes they allocated, without the shuffling turns.
+     * @param bean The thread's allocation counter.
+     * @param ticks The amount of turns.
+     * @param seed The games' seed.
+     * @return the allocated bytes.
+     * <pre>{@code
+     * long bytes = measure(bean, 1_000_000, 42);
+     * }</pre>
+     */
+    private static long measure(com.sun.management.ThreadMXBean bean, int ticks, long seed)
+    {
+        GameRandom random = new GameRandom(seed);
+        GameManager game = new GameManager(random.nextLong(), 0, false);
+        PlayerPolicy policy = new RandomPolicy(random.nextLong());
+        long allocated = 0;
+        for (int i = 0; i < ticks; i++)
+        {
+            if (game.isGameOver())
+            {
+                game = new GameManager(random.nextLong(), 0, false);
+                policy = new RandomPolicy(random.nextLong());
+            }
+            game.getPlayer().changeDirection(policy.nextDirection(game));
+            int boardVersion = game.getBoardVersion();
+            long before = bean.getCurrentThreadAllocatedBytes();
+            game.tick();
+            long after = bean.getCurrentThreadAllocatedBytes();
+            if (game.getBoardVersion() == boardVersion) allocated += after - before;
+        }
+        return allocated;
+    }
+
+
+    /**
+     * Runs the check. Exits with the status 1 if the turns allocated.
+     * @param args [ticks] [seed]. Defaults to 1 000 000 turns and the seed 42.
+     * <pre>{@code
+     * java Simulation.AllocationCheck 1000000 42
+     * }</pre>
+     */
+    public static void main(String[] args)
+    {
+        int ticks = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 42;
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!bean.isThreadAllocatedMemorySupported()) throw new IllegalStateException("Allocation counting not supported");
+        bean.setThreadAllocatedMemoryEnabled(true);
+        measure(bean, ticks / 10, seed + 1);
+        long allocated = measure(bean, ticks, seed);
+        System.out.printf("%d turns allocated %d bytes (%.4f bytes per turn)%n", ticks, allocated, (double) allocated / ticks);
+        if (allocated > TOLERANCE)
+        {
+            System.out.println("FAILED : a turn allocates");
+            System.exit(1);
+        }
+        System.out.println("OK");
+    }
+}
@@ -0,0 +1,228 @@
+package Simulation;
+
+
+/**
+ * Aggregated results of simulated games. Each worker fills its own report, the reports are merged at the end.
+ */
+public class BatchReport
+{
+    /**
+     * The amount of games played.
+     */
+    private long games = 0;
+
+
+    /**
+     * The amount of games which ended before reaching the turn limit.
+     */
+    private long finishedGames = 0;
+
+
+    /**
+     * The amount of turns played.
+     */
+    private long ticks = 0;
+
+
+    /**
+     * The amount of turns played by the finished games.
+     */
+    private long ticksToFinish = 0;
+
+
+    /**
+     * The sum of the final scores.
+     */
+    private long totalScore = 0;
+
+
+    /**
+     * The sum of the final lives.
+     */
+    private long totalLives = 0;
+
+
+    /**
+     * The best final score.
+     */
+    private int bestScore = 0;
+
+
+    /**
+     * The duration of the batch in nanoseconds.
+     */
+    private long elapsedNanos = 0;
+
+
+    /**
+     * Records the result of a game.
+     * @param score The final score.
+     * @param lives The final lives.
+     * @param ticks The amount of turns played.
+     * @param finished true if the game ended before reaching the turn limit.
+     * <pre>{@code
+     * BatchReport report = new BatchReport();
+     * report.record(2500, 1, 300, true);
+     * }</pre>
+     */
+    public void record(int score, int lives, long ticks, boolean finished)
+    {
+        this.games++;
+        this.ticks += ticks;
+        this.totalScore += score;
+        this.totalLives += lives;
+        this.bestScore = Math.max(this.bestScore, score);
+        if (finished)
+        {
+            this.finishedGames++;
+            this.ticksToFinish += ticks;
+        }
+    }
+
+
+    /**
+     * Adds the results of the given report to this report.
+     * @param other The merged report.
+     * <pre>{@code
+     * BatchReport report = new BatchReport();
+     * report.merge(workerReport);
+     * }</pre>
+     */
+    public void merge(BatchReport other)
+    {
+        this.games += other.games;
+        this.finishedGames += other.finishedGames;
+        this.ticks += other.ticks;
+        this.ticksToFinish += other.ticksToFinish;
+        this.totalScore += other.totalScore;
+        this.totalLives += other.totalLives;
+        this.bestScore = Math.max(this.bestScore, other.bestScore);
+    }
+
+
+    /**
+     * Sets the duration of the batch.
+     * @param elapsedNanos The duration in nanoseconds.
+     * <pre>{@code
+     * BatchReport report = new BatchReport();
+     * report.setElapsedNanos(1_000_000_000L);
+     * }</pre>
+     */
+    public void setElapsedNanos(long elapsedNanos)
+    {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+
+    /**
+     * Returns the amount of games played.
+     * @return the amount of games played.
+     * <pre>{@code
+     * long games = report.getGames();
+     * }</pre>
+     */
+    public long getGames()
+    {
+        return this.games;
+    }
+
+
+    /**
+     * Returns the amount of turns played.
+     * @return the amount of turns played.
+     * <pre>{@code
+     * long ticks = report.getTicks();
+     * }</pre>
+     */
+    public long getTicks()
+    {
+        return this.ticks;
+    }
+
+
+    /**
+     * Returns the average final score.
+     * @return the average final score.
+     * <pre>{@code
+     * double score = report.getAverageScore();
+     * }</pre>
+     */
+    public double getAverageScore()
+    {
+        return this.games == 0 ? 0 : (double) this.totalScore / this.games;
+    }
+
+
+    /**
+     * Returns the average final lives.
+     * @return the average final lives.
+     * <pre>{@code
+     * double lives = report.getAverageLives();
+     * }</pre>
+     */
+    public double getAverageLives()
+    {
+        return this.games == 0 ? 0 : (double) this.totalLives / this.games;
+    }
+
+
+    /**
+     * Returns the average amount of turns played by the finished games.
+     * @return the average amount of turns played by the finished games.
+     * <pre>{@code
+     * double ticks = report.getAverageTicksToFinish();
+     * }</pre>
+     */
+    public double getAverageTicksToFinish()
+    {
+        return this.finishedGames == 0 ? 0 : (double) this.ticksToFinish / this.finishedGames;
+    }
+
+
+    /**
+     * Returns the amount of games played per second.
+     * @return the amount of games played per second.
+     * <pre>{@code
+     * double throughput = report.getGamesPerSecond();
+     * }</pre>
+     */
+    public double getGamesPerSecond()
+    {
+        return this.elapsedNanos == 0 ? 0 : this.games * 1e9 / this.elapsedNanos;
+    }
+
+
+    /**
+     * Returns the amount of turns played per second.
+     * @return the amount of turns played per second.
+     * <pre>{@code
+     * double throughput = report.getTicksPerSecond();
+     * }</pre>
+     */
+    public double getTicksPerSecond()
+    {
+        return this.elapsedNanos == 0 ? 0 : this.ticks * 1e9 / this.elapsedNanos;
+    }
+
+
+    /**
+     * Formats the report.
+     * @return the formatted report.
+     */
+    @Override
+    public String toString()
+    {
+        return String.format(
+            "games: %d (%d finished) in %.2f s%n" +
+            "score: %.1f avg, %d best%n" +
+            "lives: %.2f avg%n" +
+            "ticks to finish: %.1f avg%n" +
+            "throughput: %.1f games/s, %.0f ticks/s",
+            this.games, this.finishedGames, this.elapsedNanos / 1e9,
+            this.getAverageScore(), this.bestScore,
+            this.getAverageLives(),
+            this.getAverageTicksToFinish(),
+            this.getGamesPerSecond(), this.getTicksPerSecond()
+        );
+    }
+}
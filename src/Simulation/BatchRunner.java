@@ -0,0 +1,142 @@
+package Simulation;
+
+import Logic.GameManager;
+import Utilities.GameRandom;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+
+
+/**
+ * Plays batches of independent games without UI, spread over a fixed pool of workers. Each game has its own seed and
+ * its own player's policy. Each worker aggregates its games in its own report, the reports are merged once all the
+ * games are played.
+ */
+public class BatchRunner
+{
+    /**
+     * The amount of workers.
+     */
+    private final int workers;
+
+
+    /**
+     * The maximum amount of turns of a game.
+     */
+    private final int maxTicks;
+
+
+    /**
+     * Creates the player's policy of a game from a seed.
+     */
+    private final LongFunction<PlayerPolicy> policies;
+
+
+    /**
+     * The class' constructor.
+     * @param workers The amount of workers.
+     * @param maxTicks The maximum amount of turns of a game.
+     * @param policies Creates the player's policy of a game from a seed.
+     * <pre>{@code
+     * BatchRunner runner = new BatchRunner(8, 10_000, RandomPolicy::new);
+     * }</pre>
+     */
+    public BatchRunner(int workers, int maxTicks, LongFunction<PlayerPolicy> policies)
+    {
+        this.workers = workers;
+        this.maxTicks = maxTicks;
+        this.policies = policies;
+    }
+
+
+    /**
+     * Plays the given amount of games. The games' seeds are drawn from the given seed, so a batch is reproducible
+     * whatever the amount of workers.
+     * @param games The amount of games.
+     * @param seed The batch's seed.
+     * @return the aggregated results.
+     * @throws InterruptedException if the thread is interrupted while waiting for the workers.
+     * @throws ExecutionException if a game failed.
+     * <pre>{@code
+     * BatchRunner runner = new BatchRunner(8, 10_000, RandomPolicy::new);
+     * BatchReport report = runner.run(10_000, 42);
+     * }</pre>
+     */
+    public BatchReport run(int games, long seed) throws InterruptedException, ExecutionException
+    {
+        long[] seeds = new long[games];
+        GameRandom random = new GameRandom(seed);
+        for (int i = 0; i < games; i++) seeds[i] = random.nextLong();
+
+        AtomicInteger nextGame = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(this.workers);
+        long start = System.nanoTime();
+        BatchReport report = new BatchReport();
+        try
+        {
+            ArrayList<Future<BatchReport>> parts = new ArrayList<>();
+            for (int w = 0; w < this.workers; w++)
+            {
+                parts.add(pool.submit(() -> {
+                    BatchReport part = new BatchReport();
+                    for (int i = nextGame.getAndIncrement(); i < games; i = nextGame.getAndIncrement())
+                        this.play(seeds[i], part);
+                    return part;
+                }));
+            }
+            for (Future<BatchReport> part : parts) report.merge(part.get());
+        }
+        finally
+        {
+            pool.shutdownNow();
+        }
+        report.setElapsedNanos(System.nanoTime() - start);
+        return report;
+    }
+
+
+    /**
+     * Plays a game until it is over or until the turn limit is reached, and records its result.
+     * @param seed The game's seed.
+     * @param report The report receiving the result.
+     * <pre>{@code
+     * this.play(42, report);
+     * }</pre>
+     */
+    private void play(long seed, BatchReport report)
+    {
+        GameRandom random = new GameRandom(seed);
+        // The workers already keep every core busy : the shuffled boards are generated on the worker's thread.
+        GameManager game = new GameManager(random.nextLong(), 0);
+        PlayerPolicy policy = this.policies.apply(random.nextLong());
+        int ticks = 0;
+        while (ticks < this.maxTicks && !game.isGameOver())
+        {
+            game.getPlayer().changeDirection(policy.nextDirection(game));
+            game.tick();
+            ticks++;
+        }
+        report.record(game.getScore(), game.getLives(), ticks, game.isGameOver());
+    }
+
+
+    /**
+     * Plays a batch of games with random policies and prints the report.
+     * @param args Command arguments : [games] [workers] [max ticks] [seed].
+     * @throws Exception if the batch failed.
+     */
+    public static void main(String[] args) throws Exception
+    {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int workers = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        int maxTicks = args.length > 2 ? Integer.parseInt(args[2]) : 10_000;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : GameRandom.randomSeed();
+        BatchReport report = new BatchRunner(workers, maxTicks, RandomPolicy::new).run(games, seed);
+        System.out.println("workers: " + workers + ", seed: " + seed);
+        System.out.println(report);
+    }
+}
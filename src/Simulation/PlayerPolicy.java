@@ -0,0 +1,22 @@
+package Simulation;
+
+import Logic.GameManager;
+import Utilities.Utils;
+
+
+/**
+ * Decides the player's moves when a game is played without a human player.
+ */
+public interface PlayerPolicy
+{
+    /**
+     * Returns the player's direction for the next turn.
+     * @param game The played game.
+     * @return the player's direction for the next turn.
+     * <pre>{@code
+     * PlayerPolicy policy = new RandomPolicy(42);
+     * Utils.Moving direction = policy.nextDirection(game);
+     * }</pre>
+     */
+    Utils.Moving nextDirection(GameManager game);
+}
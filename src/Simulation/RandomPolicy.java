@@ -0,0 +1,60 @@
+package Simulation;
+
+import Logic.GameManager;
+import Utilities.GameRandom;
+import Utilities.Utils;
+
+
+/**
+ * A policy walking randomly : the player keeps its direction until it is blocked, or randomly decides to turn, and
+ * then picks a legal direction uniformly at random.
+ */
+public class RandomPolicy implements PlayerPolicy
+{
+    /**
+     * The directions the player can pick.
+     */
+    private static final Utils.Moving[] DIRECTIONS = new Utils.Moving[]
+    {
+        Utils.Moving.UP, Utils.Moving.DOWN, Utils.Moving.LEFT, Utils.Moving.RIGHT
+    };
+
+
+    /**
+     * The random generator used for the decisions.
+     */
+    private final GameRandom random;
+
+
+    /**
+     * The class' constructor.
+     * @param seed The policy's seed.
+     * <pre>{@code
+     * RandomPolicy policy = new RandomPolicy(42);
+     * }</pre>
+     */
+    public RandomPolicy(long seed)
+    {
+        this.random = new GameRandom(seed);
+    }
+
+
+    /**
+     * Returns the player's direction for the next turn.
+     * @param game The played game.
+     * @return the current direction if it is still legal, else a legal direction picked uniformly at random.
+     */
+    @Override
+    public Utils.Moving nextDirection(GameManager game)
+    {
+        Utils.Moving current = game.getPlayer().getCurrentDirection();
+        if (current != null && current != Utils.Moving.STILL && game.canPlayerMove(current)
+            && !Utils.changeDirection(this.random)) return current;
+        int legal = 0;
+        for (int i = 0; i < DIRECTIONS.length; i++) if (game.canPlayerMove(DIRECTIONS[i])) legal |= 1 << i;
+        if (legal == 0) return Utils.Moving.STILL;
+        // Picks the k-th legal direction : the k lowest set bits are cleared, then the lowest remaining one is taken
+        for (int k = this.random.nextInt(Integer.bitCount(legal)); k > 0; k--) legal &= legal - 1;
+        return DIRECTIONS[Integer.numberOfTrailingZeros(legal)];
+    }
+}
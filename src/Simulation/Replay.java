@@ -0,0 +1,267 @@
+package Simulation;
+
+import Logic.GameManager;
+import Utilities.Utils;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+
+/**
+ * A recorded game : its seed, its amount of turns and the player's inputs (see @link ReplayRecorder). As the game is
+ * reproducible from its seed and the player's moves, playing the replay gives back the exact recorded game. The
+ * replay is played without any UI nor waiting, so a long game is played back in a few milliseconds. A replay file is
+ * big-endian :
+ * <ul>
+ *     <li>Header (28 bytes) : magic <code>PMRP</code> (int), version (short), reserved (short), seed (long), turns
+ *     (int), amount of inputs (int), inputs' length in bytes (int).</li>
+ *     <li>Inputs : for each input, the amount of turns since the previous input shifted by 3 bits, or-ed with the
+ *     direction's ordinal, as a variable-length integer (7 bits per byte, the lowest bits first).</li>
+ * </ul>
+ */
+public class Replay
+{
+    /**
+     * The replay's magic number, "PMRP" in ASCII.
+     */
+    public static final int MAGIC = 0x504D5250;
+
+
+    /**
+     * The format's version. Must be incremented whenever the format changes.
+     */
+    public static final short VERSION = 1;
+
+
+    /**
+     * The directions, indexed by their ordinal.
+     */
+    private static final Utils.Moving[] DIRECTIONS = Utils.Moving.values();
+
+
+    /**
+     * The recorded game's seed.
+     */
+    private final long seed;
+
+
+    /**
+     * The amount of recorded turns.
+     */
+    private final int ticks;
+
+
+    /**
+     * The amount of recorded inputs.
+     */
+    private final int inputCount;
+
+
+    /**
+     * The encoded inputs.
+     */
+    private final byte[] inputs;
+
+
+    /**
+     * The class' constructor. Use @link ReplayRecorder.toReplay or @link Replay.read.
+     * @param seed The recorded game's seed.
+     * @param ticks The amount of recorded turns.
+     * @param inputCount The amount of recorded inputs.
+     * @param inputs The encoded inputs.
+     */
+    Replay(long seed, int ticks, int inputCount, byte[] inputs)
+    {
+        this.seed = seed;
+        this.ticks = ticks;
+        this.inputCount = inputCount;
+        this.inputs = inputs;
+    }
+
+
+    /**
+     * Reads the given replay file.
+     * @param path The replay's path.
+     * @return the replay.
+     * @throws IOException if the file cannot be read or is not a valid replay.
+     * <pre>{@code
+     * Replay replay = Replay.read(Path.of("replays/42.replay"));
+     * }</pre>
+     */
+    public static Replay read(Path path) throws IOException
+    {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        try
+        {
+            if (buffer.getInt() != MAGIC) throw new IOException("Not a replay");
+            short version = buffer.getShort();
+            if (version != VERSION) throw new IOException("Unsupported replay version " + version);
+            buffer.getShort();
+            long seed = buffer.getLong();
+            int ticks = buffer.getInt(), inputCount = buffer.getInt(), length = buffer.getInt();
+            if (ticks < 0 || inputCount < 0 || length < 0 || length != buffer.remaining())
+                throw new IOException("Invalid replay header");
+            byte[] inputs = new byte[length];
+            buffer.get(inputs);
+            Replay replay = new Replay(seed, ticks, inputCount, inputs);
+            replay.check();
+            return replay;
+        }
+        catch (BufferUnderflowException e) { throw new IOException("Truncated replay", e); }
+    }
+
+
+    /**
+     * Checks that the inputs can be decoded and stay within the recorded turns.
+     * @throws IOException if the inputs are not valid.
+     * <pre>{@code
+     * replay.check();
+     * }</pre>
+     */
+    private void check() throws IOException
+    {
+        int position = 0;
+        long tick = 0;
+        for (int i = 0; i < this.inputCount; i++)
+        {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do
+            {
+                if (position >= this.inputs.length || shift > 56) throw new IOException("Truncated replay inputs");
+                b = this.inputs[position++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            }
+            while (b < 0);
+            tick += value >>> 3;
+            if ((value & 7) >= DIRECTIONS.length) throw new IOException("Invalid replay direction");
+            if (tick > this.ticks) throw new IOException("Replay input after the last turn");
+        }
+        if (position != this.inputs.length) throw new IOException("Trailing replay inputs");
+    }
+
+
+    /**
+     * Writes the replay to the given file.
+     * @param path The replay's path. The file is replaced.
+     * @throws IOException if the file cannot be written.
+     * <pre>{@code
+     * recorder.toReplay().write(Path.of("replays/42.replay"));
+     * }</pre>
+     */
+    public void write(Path path) throws IOException
+    {
+        ByteBuffer buffer = ByteBuffer.allocate(28 + this.inputs.length);
+        buffer.putInt(MAGIC);
+        buffer.putShort(VERSION);
+        buffer.putShort((short) 0);
+        buffer.putLong(this.seed);
+        buffer.putInt(this.ticks);
+        buffer.putInt(this.inputCount);
+        buffer.putInt(this.inputs.length);
+        buffer.put(this.inputs);
+        Files.write(path, buffer.array());
+    }
+
+
+    /**
+     * Plays the replay as fast as possible : the inputs are given to the player before their turn, then the turns are
+     * played until the recorded amount.
+     * @return the game at the end of the replay.
+     * <pre>{@code
+     * int score = replay.play().getScore();
+     * }</pre>
+     */
+    public GameManager play()
+    {
+        // Everything runs on the calling thread : the shuffled boards are the same whatever the pool's size
+        GameManager game = new GameManager(this.seed, 0);
+        int position = 0, played = 0, tick = 0;
+        for (int i = 0; i < this.inputCount; i++)
+        {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do
+            {
+                b = this.inputs[position++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            }
+            while (b < 0);
+            tick += (int) (value >>> 3);
+            for (; played < tick; played++) game.tick();
+            game.getPlayer().changeDirection(DIRECTIONS[(int) (value & 7)]);
+        }
+        for (; played < this.ticks; played++) game.tick();
+        return game;
+    }
+
+
+    /**
+     * Returns the recorded game's seed.
+     * @return the recorded game's seed.
+     * <pre>{@code
+     * long seed = replay.getSeed();
+     * }</pre>
+     */
+    public long getSeed()
+    {
+        return this.seed;
+    }
+
+
+    /**
+     * Returns the amount of recorded turns.
+     * @return the amount of recorded turns.
+     * <pre>{@code
+     * int ticks = replay.getTicks();
+     * }</pre>
+     */
+    public int getTicks()
+    {
+        return this.ticks;
+    }
+
+
+    /**
+     * Returns the amount of recorded inputs.
+     * @return the amount of recorded inputs.
+     * <pre>{@code
+     * int inputs = replay.getInputCount();
+     * }</pre>
+     */
+    public int getInputCount()
+    {
+        return this.inputCount;
+    }
+
+
+    /**
+     * Plays the given replay files and prints their final state and playback time.
+     * @param args The replays' paths.
+     * @throws IOException if a replay cannot be read.
+     * <pre>{@code
+     * java Simulation.Replay replays/42.replay
+     * }</pre>
+     */
+    public static void main(String[] args) throws IOException
+    {
+        for (String arg : args)
+        {
+            Replay replay = read(Path.of(arg));
+            long start = System.nanoTime();
+            GameManager game = replay.play();
+            System.out.printf(
+                "%s : seed %d, %d turns, %d inputs, score %d, lives %d, tokens %d, played in %.2f ms%n",
+                arg, replay.getSeed(), replay.getTicks(), replay.getInputCount(), game.getScore(), game.getLives(),
+                game.getRemainingTokens(), (System.nanoTime() - start) / 1e6
+            );
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package Simulation;
+
+import Utilities.Utils;
+
+import java.util.Arrays;
+
+
+/**
+ * Records a game as its seed and the player's inputs, see @link Replay. Each input is stored as the amount of turns
+ * since the previous input and the direction, packed in a variable-length integer : an input usually takes a single
+ * byte. The recorder is not thread-safe, it must be used by the game's thread only.
+ */
+public class ReplayRecorder
+{
+    /**
+     * The recorded game's seed.
+     */
+    private final long seed;
+
+
+    /**
+     * The encoded inputs.
+     */
+    private byte[] inputs = new byte[64];
+
+
+    /**
+     * The length of the encoded inputs in bytes.
+     */
+    private int length = 0;
+
+
+    /**
+     * The amount of recorded inputs.
+     */
+    private int inputCount = 0;
+
+
+    /**
+     * The amount of played turns.
+     */
+    private int ticks = 0;
+
+
+    /**
+     * The turn of the previous input.
+     */
+    private int lastInputTick = 0;
+
+
+    /**
+     * The class' constructor.
+     * @param seed The recorded game's seed.
+     * <pre>{@code
+     * ReplayRecorder recorder = new ReplayRecorder(game.getSeed());
+     * }</pre>
+     */
+    public ReplayRecorder(long seed)
+    {
+        this.seed = seed;
+    }
+
+
+    /**
+     * Records a direction given to the player before the current turn is played.
+     * @param direction The player's new direction.
+     * <pre>{@code
+     * recorder.recordInput(Utils.Moving.UP);
+     * game.getPlayer().changeDirection(Utils.Moving.UP);
+     * }</pre>
+     */
+    public void recordInput(Utils.Moving direction)
+    {
+        long value = ((long) (this.ticks - this.lastInputTick) << 3) | direction.ordinal();
+        if (this.length + 10 > this.inputs.length) this.inputs = Arrays.copyOf(this.inputs, this.inputs.length * 2);
+        while ((value & ~0x7FL) != 0)
+        {
+            this.inputs[this.length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        this.inputs[this.length++] = (byte) value;
+        this.lastInputTick = this.ticks;
+        this.inputCount++;
+    }
+
+
+    /**
+     * Records a played turn.
+     * <pre>{@code
+     * game.tick();
+     * recorder.recordTick();
+     * }</pre>
+     */
+    public void recordTick()
+    {
+        this.ticks++;
+    }
+
+
+    /**
+     * Returns the amount of played turns.
+     * @return the amount of played turns.
+     * <pre>{@code
+     * int ticks = recorder.getTicks();
+     * }</pre>
+     */
+    public int getTicks()
+    {
+        return this.ticks;
+    }
+
+
+    /**
+     * Returns the recording so far.
+     * @return the replay of the turns played so far.
+     * <pre>{@code
+     * Replay replay = recorder.toReplay();
+     * }</pre>
+     */
+    public Replay toReplay()
+    {
+        return new Replay(this.seed, this.ticks, this.inputCount, Arrays.copyOf(this.inputs, this.length));
+    }
+}
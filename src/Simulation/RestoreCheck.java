@@ -0,0 +1,126 @@
+package Simulation;
+
+import Logic.GameManager;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+
+/**
+ * Checks that restoring a corrupted save never breaks the running game (see @link GameManager.restore). A save whose
+ * ghosts' order places a ghost twice must be rejected with the game unchanged, and every save with a single flipped
+ * bit must either be rejected with the game unchanged, or give a game which can play its next turn.
+ */
+public final class RestoreCheck
+{
+    /**
+     * The class' constructor. Not instantiable.
+     */
+    private RestoreCheck() {}
+
+
+    /**
+     * Returns the given game's save.
+     * @param game The game.
+     * @return the game's save.
+     * <pre>{@code
+     * byte[] save = save(game);
+     * }</pre>
+     */
+    private static byte[] save(GameManager game)
+    {
+        ByteBuffer buffer = ByteBuffer.allocate(game.getSaveSize());
+        game.save(buffer);
+        return buffer.array();
+    }
+
+
+    /**
+     * Returns a game played for the given amount of turns.
+     * @param seed The game's seed.
+     * @param ticks The amount of turns.
+     * @return the game.
+     * <pre>{@code
+     * GameManager game = played(42, 50);
+     * }</pre>
+     */
+    private static GameManager played(long seed, int ticks)
+    {
+        GameManager game = new GameManager(seed, 0);
+        RandomPolicy policy = new RandomPolicy(seed);
+        for (int i = 0; i < ticks && !game.isGameOver(); i++)
+        {
+            game.getPlayer().changeDirection(policy.nextDirection(game));
+            game.tick();
+        }
+        return game;
+    }
+
+
+    /**
+     * Restores the given save in a running game.
+     * @param save The save.
+     * @return true if the save was rejected with the game unchanged, false if it was accepted.
+     * @throws IllegalStateException if the save was rejected but the game changed.
+     * <pre>{@code
+     * boolean rejected = rejected(save);
+     * }</pre>
+     */
+    private static boolean rejected(byte[] save)
+    {
+        GameManager game = played(7, 20);
+        byte[] before = save(game);
+        try
+        {
+            game.restore(ByteBuffer.wrap(save));
+        }
+        catch (IllegalArgumentException e)
+        {
+            if (!Arrays.equals(before, save(game))) throw new IllegalStateException("Rejected save changed the game", e);
+            return true;
+        }
+        // An accepted save must give a playable game
+        game.tick();
+        return false;
+    }
+
+
+    /**
+     * Runs the check. Exits with the status 1 if a corrupted save breaks the game.
+     * @param args Unused.
+     * <pre>{@code
+     * java Simulation.RestoreCheck
+     * }</pre>
+     */
+    public static void main(String[] args)
+    {
+        GameManager game = played(3, 50);
+        byte[] save = save(game);
+        int ghosts = game.getBoard().getGhostCount(), order = save.length - 4 * ghosts;
+        try
+        {
+            byte[] duplicated = save.clone();
+            ByteBuffer.wrap(duplicated).putInt(order + 4, ByteBuffer.wrap(save).getInt(order));
+            if (!rejected(duplicated))
+            {
+                System.out.println("FAILED : a ghost placed twice was accepted");
+                System.exit(1);
+            }
+            int accepted = 0;
+            for (int bit = 0; bit < 8 * save.length; bit++)
+            {
+                byte[] flipped = save.clone();
+                flipped[bit / 8] ^= (byte) (1 << (bit % 8));
+                if (!rejected(flipped)) accepted++;
+            }
+            System.out.printf("%d saves with a flipped bit : %d accepted and playable, the others rejected%n",
+                8 * save.length, accepted);
+        }
+        catch (RuntimeException e)
+        {
+            System.out.println("FAILED : " + e);
+            System.exit(1);
+        }
+        System.out.println("OK");
+    }
+}
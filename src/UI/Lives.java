@@ -7,7 +7,7 @@ import java.awt.*;
 /**
  * Label used to display the player's lives.
  */
-public class Lives extends JLabel
+public final class Lives extends JLabel
 {
     /**
      * The class constructor.
@@ -7,7 +7,7 @@ import java.awt.*;
 /**
  * Label used to display the player's score.
  */
-public class Score extends JLabel
+public final class Score extends JLabel
 {
     /**
      * The class constructor.
@@ -7,7 +7,7 @@ import java.awt.*;
 /**
  * Label used to display the tokens remaining on the board.
  */
-public class TokensRemaining extends JLabel
+public final class TokensRemaining extends JLabel
 {
 
     /**
@@ -0,0 +1,203 @@
+package Utilities;
+
+import Components.GhostStates;
+import Components.PacmanStates;
+import Components.TileVariant;
+import Components.TokenVariants;
+import java.awt.*;
+
+
+/**
+ * Contains all the colors used by the UI. Kept apart from @link Utilities.Configs so the game logic can run
+ * without loading any AWT class.
+ */
+public final class Colors
+{
+    /**
+     * The window's background color.
+     */
+    public static Color BACKGROUND_COLOR = Color.decode("#121212");
+
+
+    ///////////////////////////////////////////////////////
+    /// Tiles
+    ///////////////////////////////////////////////////////
+
+
+    /**
+     * The walls' color.
+     */
+    public static Color WALL_COLOR = Color.decode("#154360");
+
+
+    /**
+     * The empty tile's color.
+     */
+    public static Color EMPTY_COLOR = Color.decode("#212121");
+
+
+    /**
+     * The spawn tile's color.
+     */
+    public static Color SPAWN_COLOR = Color.decode("#212121");
+
+
+    /**
+     * The ghost-spawn tile's color.
+     */
+    public static Color GHOST_SPAWN_COLOR = Color.decode("#212121");
+
+
+    /**
+     * Return the tile's color depending on its variant.
+     * @param tile The tile variant
+     * @return the tile's color.
+     * <pre>{@code
+     * Color color = Colors.getTileColor(TileVariant.SPAWN);
+     * }</pre>
+     */
+    public static Color getTileColor(TileVariant tile)
+    {
+        return switch (tile)
+        {
+            case WALL -> WALL_COLOR;
+            case EMPTY -> EMPTY_COLOR;
+            case SPAWN -> SPAWN_COLOR;
+            case GHOST_SPAWN -> GHOST_SPAWN_COLOR;
+        };
+    }
+
+
+    ///////////////////////////////////////////////////////
+    /// Entities
+    ///////////////////////////////////////////////////////
+
+
+    /**
+     * The ghost's default color.
+     */
+    public static Color GHOST_NORMAL_COLOR = Color.decode("#b63ab8");
+
+
+    /**
+     * The ghost's color under the afraid state.
+     */
+    public static Color GHOST_AFRAID_COLOR = Color.decode("#0000ff");
+
+
+    /**
+     * The ghost's eyes color.
+     */
+    public static Color GHOST_EYE_COLOR = Color.decode("#ffffff");
+
+
+    /**
+     * The blue token's color.
+     */
+    public static Color TOKEN_BLUE_COLOR = Color.decode("#2980b9");
+
+
+    /**
+     * The green token's color.
+     */
+    public static Color TOKEN_GREEN_COLOR = Color.decode("#1e8449");
+
+
+    /**
+     * The orange token's color.
+     */
+    public static Color TOKEN_ORANGE_COLOR = Color.decode("#d35400");
+
+
+    /**
+     * The violet token's color.
+     */
+    public static Color TOKEN_VIOLET_COLOR = Color.decode("#fd89ff");
+
+
+    /**
+     * Returns the token's color depending on its variant.
+     * @param token The token variant.
+     * @return the token's color depending on its variant.
+     * <pre>{@code
+     * Color color = Colors.getTokenColor(TokenVariants.BLUE);
+     * }</pre>
+     */
+    public static Color getTokenColor(TokenVariants token)
+    {
+        return switch (token)
+        {
+            case BLUE -> TOKEN_BLUE_COLOR;
+            case GREEN -> TOKEN_GREEN_COLOR;
+            case ORANGE -> TOKEN_ORANGE_COLOR;
+            case VIOLET -> TOKEN_VIOLET_COLOR;
+            case NONE -> Color.RED;
+        };
+    }
+
+
+    /**
+     * Returns the ghost color depending on the given state.
+     * @param state The ghost's state.
+     * @return the ghost color depending on the given state.
+     * <pre>{@code
+     * Color color = Colors.getGhostColor(GhostStates.Afraid);
+     * }</pre>
+     */
+    public static Color getGhostColor(GhostStates state)
+    {
+        return switch (state)
+        {
+            case Normal -> GHOST_NORMAL_COLOR;
+            case Afraid -> GHOST_AFRAID_COLOR;
+        };
+    }
+
+
+    ///////////////////////////////////////////////////////
+    /// PLAYER
+    ///////////////////////////////////////////////////////
+
+
+    /**
+     * The player's default color.
+     */
+    public static Color PLAYER_COLOR = Color.decode("#ffff00");
+
+
+    /**
+     * The player's color under the invisibility state.
+     */
+    public static Color PLAYER_INVISIBILITY_COLOR = Color.decode("#d4ac0d");
+
+
+    /**
+     * The player's color under the super state.
+     */
+    public static Color PLAYER_SUPER_COLOR = Color.decode("#d35400");
+
+
+    /**
+     * The player eye's color.
+     */
+    public static Color PLAYER_EYE_COLOR = Color.decode("#ffffff");
+
+
+    /**
+     * Returns the player color depending on the given state.
+     * @param state The player's state.
+     * @return the player color depending on the given state.
+     * <pre>{@code
+     * Color color = Colors.getPlayerColor(PacmanStates.Super);
+     * }</pre>
+     */
+    public static Color getPlayerColor(PacmanStates state)
+    {
+        return switch (state)
+        {
+            case Normal -> PLAYER_COLOR;
+            case Super -> PLAYER_SUPER_COLOR;
+            case Invisible -> PLAYER_INVISIBILITY_COLOR;
+        };
+    }
+}
@@ -1,13 +1,10 @@
 package Utilities;
 
-import Components.TileVariant;
 import Components.TokenVariants;
-import java.awt.*;
-import java.util.Random;
 
 
 /**
- * Contains all static variables used in the project.
+ * Contains all static variables used in the project. The colors are set in @link Utilities.Colors.
  */
 public class Configs
 {
@@ -23,12 +20,6 @@ public class Configs
     public static int WINDOW_HEIGHT = 1180;
 
 
-    /**
-     * The window's background color.
-     */
-    public static Color BACKGROUND_COLOR = Color.decode("#121212");
-
-
     ///////////////////////////////////////////////////////
     /// Board
     ///////////////////////////////////////////////////////
@@ -52,60 +43,35 @@ public class Configs
     public static int EMPTY_SPACE = 5;
 
 
-    ///////////////////////////////////////////////////////
-    /// Tiles
-    ///////////////////////////////////////////////////////
-
-
     /**
-     * Calculate the board tile's sizes. The size is based on the window's minimum dimension
-     * and the board's maximum dimension.
+     * The boards with at least this amount of cells are generated by tiles, in parallel.
+     * See @link Scenes.SceneGenerator.generateTiledBoard.
      */
-    public static int TILE_SIZE = Math.min(WINDOW_HEIGHT, WINDOW_WIDTH) / Math.max(BOARD_WIDTH, BOARD_HEIGHT) - 2;
+    public static int TILED_GENERATION_MIN_CELLS = 512 * 512;
 
 
     /**
-     * The walls' color.
+     * The width and height of the tiles of the boards generated in parallel.
      */
-    public static Color WALL_COLOR = Color.decode("#154360");
+    public static int GENERATION_TILE_SIZE = 256;
 
 
     /**
-     * The empty tile's color.
+     * The maximum amount of cells held by the generated boards' cache, see @link Scenes.BoardCache.
      */
-    public static Color EMPTY_COLOR = Color.decode("#212121");
-
+    public static long BOARD_CACHE_MAX_CELLS = 4L * 1024 * 1024;
 
-    /**
-     * The spawn tile's color.
-     */
-    public static Color SPAWN_COLOR = Color.decode("#212121");
 
-
-    /**
-     * The ghost-spawn tile's color.
-     */
-    public static Color GHOST_SPAWN_COLOR = Color.decode("#212121");
+    ///////////////////////////////////////////////////////
+    /// Tiles
+    ///////////////////////////////////////////////////////
 
 
     /**
-     * Return the tile's color depending on its variant.
-     * @param tile The tile variant
-     * @return the tile's color.
-     * <pre>{@code
-     * Color color = Utils.getTileColor(TileVariant.SPAWN);
-     * }</pre>
+     * Calculate the board tile's sizes. The size is based on the window's minimum dimension
+     * and the board's maximum dimension.
      */
-    public static Color getTileColor(TileVariant tile)
-    {
-        return switch (tile)
-        {
-            case WALL -> WALL_COLOR;
-            case EMPTY -> EMPTY_COLOR;
-            case SPAWN -> SPAWN_COLOR;
-            case GHOST_SPAWN -> GHOST_SPAWN_COLOR;
-        };
-    }
+    public static int TILE_SIZE = Math.min(WINDOW_HEIGHT, WINDOW_WIDTH) / Math.max(BOARD_WIDTH, BOARD_HEIGHT) - 2;
 
 
     ///////////////////////////////////////////////////////
@@ -114,21 +80,15 @@ public class Configs
 
 
     /**
-     * The ghost's size in pixels.
+     * The amount of ghosts on a new board.
      */
-    public static int GHOST_SIZE = TILE_SIZE;
+    public static int GHOST_COUNT = 4;
 
 
     /**
-     * The ghost's default color.
-     */
-    public static Color GHOST_NORMAL_COLOR = Color.decode("#b63ab8");
-
-
-    /**
-     * The ghost's color under the afraid state.
+     * The ghost's size in pixels.
      */
-    public static Color GHOST_AFRAID_COLOR = Color.decode("#0000ff");
+    public static int GHOST_SIZE = TILE_SIZE;
 
 
     /**
@@ -137,49 +97,23 @@ public class Configs
     public static int TOKEN_SIZE = (int)(TILE_SIZE * 0.3);
 
 
-    /**
-     * The ghost's eyes color.
-     */
-    public static Color GHOST_EYE_COLOR = Color.decode("#ffffff");
-
-
     /**
      * The ghost eye's sizes color.
      */
     public static int GHOST_EYE_SIZE = (int)(GHOST_SIZE * 0.15);
 
 
-    /**
-     * Returns the token's color depending on its variant.
-     * @param token The token variant.
-     * @return the token's color depending on its variant.
-     * <pre>{@code
-     * Color color = Utils.getTokenColor(TokenVariants.BLUE);
-     * }</pre>
-     */
-    public static Color getTokenColor(TokenVariants token)
-    {
-        return switch (token)
-        {
-            case BLUE -> Color.decode("#2980b9");
-            case GREEN -> Color.decode("#1e8449");
-            case ORANGE -> Color.decode("#d35400");
-            case VIOLET -> Color.decode("#fd89ff");
-            case NONE -> Color.RED;
-        };
-    }
-
-
     /**
      * Creates a random token.
+     * @param rand The random generator used.
      * @return A token.
      * <pre>{@code
-     * TokenVariants variant = Utils.getRandomToken();
+     * GameRandom random = new GameRandom(42);
+     * TokenVariants variant = Configs.getRandomToken(random);
      * }</pre>
      */
-    public static TokenVariants getRandomToken()
+    public static TokenVariants getRandomToken(GameRandom rand)
     {
-        Random rand = new Random();
         try
         {
             switch (rand.nextInt(30))
@@ -210,51 +144,60 @@ public class Configs
 
 
     /**
-     * The player's default color.
+     * The player eye's size in pixel.
      */
-    public static Color PLAYER_COLOR = Color.decode("#ffff00");
+    public static int PLAYER_EYE_SIZE = (int)(PLAYER_SIZE * 0.3);
+
+
+    ///////////////////////////////////////////////////////
+    /// GAME
+    ///////////////////////////////////////////////////////
 
 
     /**
-     * The player's color under the invisibility state.
+     * Refresh rate of the game (in ms).
+     * The pattern is (1000.0 / [refresh per seconds]).
      */
-    public static Color PLAYER_INVISIBILITY_COLOR = Color.decode("#d4ac0d");
+    public static long FPS = (long)(1000.0 / 3.0);
 
 
     /**
-     * The player's color under the super state.
+     * Refresh rate of the display (in ms), independent of the game's refresh rate.
+     * The pattern is (1000.0 / [refresh per seconds]).
      */
-    public static Color PLAYER_SUPER_COLOR = Color.decode("#d35400");
+    public static long RENDER_RATE = (long)(1000.0 / 60.0);
 
 
     /**
-     * The player eye's color.
+     * The policy applied by the update loop when turns are late, see @link GameLoop.Policy.
      */
-    public static Color PLAYER_EYE_COLOR = Color.decode("#ffffff");
+    public static GameLoop.Policy LATE_TURNS_POLICY = GameLoop.Policy.CATCH_UP;
 
 
     /**
-     * The player eye's size in pixel.
+     * The maximum amount of late turns played in a row by the update loop. Further late turns are skipped.
      */
-    public static int PLAYER_EYE_SIZE = (int)(PLAYER_SIZE * 0.3);
+    public static int MAX_CATCH_UP_TURNS = 5;
 
 
-    ///////////////////////////////////////////////////////
-    /// GAME
-    ///////////////////////////////////////////////////////
+    /**
+     * The duration of effects in turns.
+     */
+    public static int EVENT_TIMER = 5;
 
 
     /**
-     * Refresh rate of the game (in ms).
-     * The pattern is (1000.0 / [refresh per seconds]).
+     * The amount of shuffled boards generated ahead of time by each game, see @link Scenes.BoardPool.
      */
-    public static long FPS = (long)(1000.0 / 3.0);
+    public static int SHUFFLE_POOL_SIZE = 2;
 
 
     /**
-     * The duration of effects in turns.
+     * The directory where the finished games' replays are saved, see @link Simulation.Replay. A relative path is
+     * resolved from the working directory. null, the default, disables the replays : set it, e.g. to "replays", to
+     * record every finished game.
      */
-    public static int EVENT_TIMER = 5;
+    public static String REPLAY_DIRECTORY = null;
 
 
     /**
@@ -0,0 +1,337 @@
+package Utilities;
+
+import java.util.concurrent.locks.LockSupport;
+
+
+/**
+ * Fixed-timestep game loop. The turns are scheduled on absolute deadlines (<code>start + n * period</code>), so the
+ * time spent by a turn does not delay the following ones. The turns and the renders have separate rates. When the loop
+ * is late by more than a turn, the late turns are either played in a row (up to a limit) or skipped, depending on the
+ * policy. The loop keeps track of its lateness, measured each time it wakes up to play turns, and of the overruns.
+ */
+public class GameLoop implements Runnable
+{
+    /**
+     * The policies applied to the late turns.
+     */
+    public enum Policy
+    {
+        /**
+         * The late turns are played in a row, up to the catch-up limit. The remaining ones are skipped.
+         */
+        CATCH_UP,
+
+        /**
+         * The late turns are skipped : a single turn is played and the missed deadlines are dropped. The schedule keeps
+         * its phase : the next turn is played on the next deadline still ahead.
+         */
+        SKIP
+    }
+
+
+    /**
+     * The time left before a deadline under which the loop spins instead of parking, in nanoseconds. Parking is not
+     * precise enough to keep the jitter under a millisecond.
+     */
+    private static final long SPIN_NANOS = 1_000_000L;
+
+
+    /**
+     * The duration of a turn in nanoseconds.
+     */
+    private final long tickNanos;
+
+
+    /**
+     * The duration between two renders in nanoseconds.
+     */
+    private final long renderNanos;
+
+
+    /**
+     * The policy applied to the late turns.
+     */
+    private final Policy policy;
+
+
+    /**
+     * The maximum amount of turns played in a row to catch up.
+     */
+    private final int maxCatchUpTicks;
+
+
+    /**
+     * Plays a turn.
+     */
+    private final Runnable update;
+
+
+    /**
+     * Renders the game.
+     */
+    private final Runnable render;
+
+
+    /**
+     * Flag set while the loop is running.
+     */
+    private volatile boolean running = false;
+
+
+    /**
+     * The amount of turns played.
+     */
+    private volatile long ticks = 0;
+
+
+    /**
+     * The amount of renders.
+     */
+    private volatile long renders = 0;
+
+
+    /**
+     * The amount of times the loop woke up to play turns. The lateness is measured once per wake-up, on its first turn.
+     */
+    private volatile long wakeUps = 0;
+
+
+    /**
+     * The sum of the wake-ups' lateness in nanoseconds.
+     */
+    private volatile long totalLatenessNanos = 0;
+
+
+    /**
+     * The highest wake-up's lateness in nanoseconds.
+     */
+    private volatile long maxLatenessNanos = 0;
+
+
+    /**
+     * The amount of wake-ups which started more than a turn late.
+     */
+    private volatile long overruns = 0;
+
+
+    /**
+     * The amount of skipped turns.
+     */
+    private volatile long skippedTicks = 0;
+
+
+    /**
+     * The class' constructor.
+     * @param tickNanos The duration of a turn in nanoseconds.
+     * @param renderNanos The duration between two renders in nanoseconds.
+     * @param policy The policy applied to the late turns.
+     * @param maxCatchUpTicks The maximum amount of turns played in a row to catch up.
+     * @param update Plays a turn.
+     * @param render Renders the game.
+     * <pre>{@code
+     * GameLoop loop = new GameLoop(333_000_000L, 16_000_000L, GameLoop.Policy.CATCH_UP, 5, game::tick, window::repaint);
+     * new Thread(loop).start();
+     * }</pre>
+     */
+    public GameLoop(long tickNanos, long renderNanos, Policy policy, int maxCatchUpTicks, Runnable update, Runnable render)
+    {
+        this.tickNanos = tickNanos;
+        this.renderNanos = renderNanos;
+        this.policy = policy;
+        this.maxCatchUpTicks = Math.max(1, maxCatchUpTicks);
+        this.update = update;
+        this.render = render;
+    }
+
+
+    /**
+     * Runs the loop until @link GameLoop.stop is called.
+     */
+    @Override
+    public void run()
+    {
+        this.running = true;
+        long nextTick = System.nanoTime() + this.tickNanos;
+        long nextRender = nextTick;
+        while (this.running)
+        {
+            waitUntil(Math.min(nextTick, nextRender));
+            long now = System.nanoTime();
+            if (now - nextTick >= 0)
+            {
+                long lateness = now - nextTick;
+                this.wakeUps++;
+                this.totalLatenessNanos += lateness;
+                if (lateness > this.maxLatenessNanos) this.maxLatenessNanos = lateness;
+                if (lateness >= this.tickNanos) this.overruns++;
+
+                int played = 0;
+                do
+                {
+                    this.update.run();
+                    this.ticks++;
+                    played++;
+                    nextTick += this.tickNanos;
+                }
+                while (this.policy == Policy.CATCH_UP && played < this.maxCatchUpTicks && System.nanoTime() - nextTick >= 0);
+
+                now = System.nanoTime();
+                if (now - nextTick >= 0)
+                {
+                    long late = (now - nextTick) / this.tickNanos + 1;
+                    this.skippedTicks += late;
+                    nextTick += late * this.tickNanos;
+                }
+            }
+            if (now - nextRender >= 0)
+            {
+                this.render.run();
+                this.renders++;
+                nextRender += this.renderNanos;
+                if (System.nanoTime() - nextRender >= 0) nextRender = System.nanoTime() + this.renderNanos;
+            }
+        }
+    }
+
+
+    /**
+     * Waits until the given deadline. The thread parks, then spins during the last millisecond.
+     * @param deadline The deadline, as given by System.nanoTime().
+     * <pre>{@code
+     * waitUntil(System.nanoTime() + 1_000_000L);
+     * }</pre>
+     */
+    private static void waitUntil(long deadline)
+    {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0)
+        {
+            if (remaining > SPIN_NANOS) LockSupport.parkNanos(remaining - SPIN_NANOS);
+            else Thread.onSpinWait();
+        }
+    }
+
+
+    /**
+     * Stops the loop. The current turn or render is completed.
+     * <pre>{@code
+     * loop.stop();
+     * }</pre>
+     */
+    public void stop()
+    {
+        this.running = false;
+    }
+
+
+    /**
+     * Returns the amount of turns played.
+     * @return the amount of turns played.
+     * <pre>{@code
+     * long ticks = loop.getTicks();
+     * }</pre>
+     */
+    public long getTicks()
+    {
+        return this.ticks;
+    }
+
+
+    /**
+     * Returns the amount of renders.
+     * @return the amount of renders.
+     * <pre>{@code
+     * long renders = loop.getRenders();
+     * }</pre>
+     */
+    public long getRenders()
+    {
+        return this.renders;
+    }
+
+
+    /**
+     * Returns the amount of times the loop woke up to play turns. A wake-up plays a single turn, or several when the
+     * loop catches up.
+     * @return the amount of wake-ups.
+     * <pre>{@code
+     * long wakeUps = loop.getWakeUps();
+     * }</pre>
+     */
+    public long getWakeUps()
+    {
+        return this.wakeUps;
+    }
+
+
+    /**
+     * Returns the average lateness of the wake-ups in nanoseconds : how late the first turn of each wake-up started.
+     * The turns played in a row to catch up are not measured.
+     * @return the average lateness of the wake-ups in nanoseconds.
+     * <pre>{@code
+     * long lateness = loop.getAverageLatenessNanos();
+     * }</pre>
+     */
+    public long getAverageLatenessNanos()
+    {
+        long wakeUps = this.wakeUps;
+        return wakeUps == 0 ? 0 : this.totalLatenessNanos / wakeUps;
+    }
+
+
+    /**
+     * Returns the highest lateness of a wake-up in nanoseconds.
+     * @return the highest lateness of a wake-up in nanoseconds.
+     * <pre>{@code
+     * long lateness = loop.getMaxLatenessNanos();
+     * }</pre>
+     */
+    public long getMaxLatenessNanos()
+    {
+        return this.maxLatenessNanos;
+    }
+
+
+    /**
+     * Returns the amount of wake-ups which started more than a turn late.
+     * @return the amount of overruns.
+     * <pre>{@code
+     * long overruns = loop.getOverruns();
+     * }</pre>
+     */
+    public long getOverruns()
+    {
+        return this.overruns;
+    }
+
+
+    /**
+     * Returns the amount of skipped turns.
+     * @return the amount of skipped turns.
+     * <pre>{@code
+     * long skipped = loop.getSkippedTicks();
+     * }</pre>
+     */
+    public long getSkippedTicks()
+    {
+        return this.skippedTicks;
+    }
+
+
+    /**
+     * Returns a summary of the loop's counters, the lateness in milliseconds.
+     * @return a summary of the loop's counters.
+     * <pre>{@code
+     * System.out.println(loop);
+     * }</pre>
+     */
+    @Override
+    public String toString()
+    {
+        return String.format(
+            "%d turns, %d renders, %d skipped turns, %d overruns, lateness mean %.2f ms, max %.2f ms",
+            this.getTicks(), this.getRenders(), this.getSkippedTicks(), this.getOverruns(),
+            this.getAverageLatenessNanos() / 1e6, this.getMaxLatenessNanos() / 1e6
+        );
+    }
+}
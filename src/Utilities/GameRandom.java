@@ -0,0 +1,175 @@
+package Utilities;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * A fast, seeded and splittable random generator (SplitMix64). A game owns its generators, so it can be replayed
+ * from its seed and several games can run in parallel without sharing any state. Not thread-safe : each thread must
+ * use its own generator, which can be obtained with @link GameRandom.split.
+ */
+public final class GameRandom
+{
+    /**
+     * The increment added to the state on each draw (the golden ratio's odd 64-bit approximation).
+     */
+    private static final long GAMMA = 0x9e3779b97f4a7c15L;
+
+
+    /**
+     * Used to produce different default seeds for generators created at the same time.
+     */
+    private static final AtomicLong SEED_UNIQUIFIER = new AtomicLong(System.nanoTime());
+
+
+    /**
+     * The generator's state.
+     */
+    private long state;
+
+
+    /**
+     * The class' constructor.
+     * @param seed The seed.
+     * <pre>{@code
+     * GameRandom random = new GameRandom(42);
+     * }</pre>
+     */
+    public GameRandom(long seed)
+    {
+        this.state = seed;
+    }
+
+
+    /**
+     * Returns a new seed, different on each call.
+     * @return a new seed.
+     * <pre>{@code
+     * long seed = GameRandom.randomSeed();
+     * }</pre>
+     */
+    public static long randomSeed()
+    {
+        return mix(SEED_UNIQUIFIER.addAndGet(GAMMA) ^ System.nanoTime());
+    }
+
+
+    /**
+     * Returns a new generator, independent of this one. The new generator's seed is drawn from this generator.
+     * @return a new generator.
+     * <pre>{@code
+     * GameRandom random = new GameRandom(42);
+     * GameRandom other = random.split();
+     * }</pre>
+     */
+    public GameRandom split()
+    {
+        return new GameRandom(mix(this.nextLong()));
+    }
+
+
+    /**
+     * Returns the generator's state. A generator set to this state draws the same values as this one.
+     * @return the generator's state.
+     * <pre>{@code
+     * GameRandom random = new GameRandom(42);
+     * long state = random.getState();
+     * }</pre>
+     */
+    public long getState()
+    {
+        return this.state;
+    }
+
+
+    /**
+     * Sets the generator's state.
+     * @param state The state, returned by @link GameRandom.getState.
+     * <pre>{@code
+     * GameRandom random = new GameRandom(42);
+     * random.setState(other.getState());
+     * }</pre>
+     */
+    public void setState(long state)
+    {
+        this.state = state;
+    }
+
+
+    /**
+     * Returns a random long.
+     * @return a random long.
+     * <pre>{@code
+     * GameRandom random = new GameRandom(42);
+     * long value = random.nextLong();
+     * }</pre>
+     */
+    public long nextLong()
+    {
+        return mix(this.state += GAMMA);
+    }
+
+
+    /**
+     * Returns a random int.
+     * @return a random int.
+     * <pre>{@code
+     * GameRandom random = new GameRandom(42);
+     * int value = random.nextInt();
+     * }</pre>
+     */
+    public int nextInt()
+    {
+        return (int) (this.nextLong() >>> 32);
+    }
+
+
+    /**
+     * Returns a random int between 0 (included) and the given bound (excluded).
+     * @param bound The bound. Must be positive.
+     * @return a random int between 0 (included) and the given bound (excluded).
+     * <pre>{@code
+     * GameRandom random = new GameRandom(42);
+     * int value = random.nextInt(10);
+     * }</pre>
+     */
+    public int nextInt(int bound)
+    {
+        if (bound <= 0) throw new IllegalArgumentException("bound must be positive");
+        int r = this.nextInt();
+        int m = bound - 1;
+        if ((bound & m) == 0) return r & m;
+        for (int u = r >>> 1; u + m - (r = u % bound) < 0; u = this.nextInt() >>> 1);
+        return r;
+    }
+
+
+    /**
+     * Returns a random boolean.
+     * @return a random boolean.
+     * <pre>{@code
+     * GameRandom random = new GameRandom(42);
+     * boolean value = random.nextBoolean();
+     * }</pre>
+     */
+    public boolean nextBoolean()
+    {
+        return this.nextLong() < 0;
+    }
+
+
+    /**
+     * Mixes the bits of the given value (Stafford's variant 13 of the MurmurHash3 finalizer).
+     * @param z The value.
+     * @return the mixed value.
+     * <pre>{@code
+     * long mixed = mix(42);
+     * }</pre>
+     */
+    private static long mix(long z)
+    {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,184 @@
+package Utilities;
+
+
+/**
+ * A histogram of latencies with a constant relative precision. The latencies are recorded in microseconds : values
+ * under 16 have their own bucket, larger values share a bucket with the values having the same 5 most significant
+ * bits (at most 6% of error). Recording does not allocate. Must be recorded by a single thread, the reads from other
+ * threads are approximate.
+ */
+public final class LatencyHistogram
+{
+    /**
+     * The amount of significant bits kept per value.
+     */
+    private static final int PRECISION = 4;
+
+
+    /**
+     * The amount of buckets sharing the same highest bit.
+     */
+    private static final int SUB_BUCKETS = 1 << PRECISION;
+
+
+    /**
+     * The amount of values recorded in each bucket.
+     */
+    private final long[] counts = new long[(Long.SIZE - PRECISION + 1) * SUB_BUCKETS];
+
+
+    /**
+     * The amount of recorded values.
+     */
+    private volatile long count = 0;
+
+
+    /**
+     * The sum of the recorded values in microseconds.
+     */
+    private long total = 0;
+
+
+    /**
+     * The highest recorded value in microseconds.
+     */
+    private long max = 0;
+
+
+    /**
+     * Records a latency.
+     * @param nanos The latency in nanoseconds. Negative values are recorded as 0.
+     * <pre>{@code
+     * LatencyHistogram histogram = new LatencyHistogram();
+     * histogram.record(System.nanoTime() - start);
+     * }</pre>
+     */
+    public void record(long nanos)
+    {
+        long micros = Math.max(0, nanos / 1000);
+        this.counts[bucketOf(micros)]++;
+        this.total += micros;
+        if (micros > this.max) this.max = micros;
+        this.count++;
+    }
+
+
+    /**
+     * Returns the bucket of the given value.
+     * @param micros The value in microseconds.
+     * @return the bucket's index.
+     * <pre>{@code
+     * int bucket = bucketOf(1500);
+     * }</pre>
+     */
+    private static int bucketOf(long micros)
+    {
+        if (micros < SUB_BUCKETS) return (int) micros;
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(micros) - PRECISION;
+        return shift * SUB_BUCKETS + (int) (micros >>> shift);
+    }
+
+
+    /**
+     * Returns the highest value held by the given bucket.
+     * @param bucket The bucket's index.
+     * @return the highest value held by the bucket in microseconds.
+     * <pre>{@code
+     * long micros = upperBoundOf(42);
+     * }</pre>
+     */
+    private static long upperBoundOf(int bucket)
+    {
+        if (bucket < SUB_BUCKETS) return bucket;
+        int shift = bucket / SUB_BUCKETS - 1;
+        long mantissa = bucket - shift * SUB_BUCKETS;
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+
+    /**
+     * Returns the amount of recorded values.
+     * @return the amount of recorded values.
+     * <pre>{@code
+     * LatencyHistogram histogram = new LatencyHistogram();
+     * long count = histogram.getCount();
+     * }</pre>
+     */
+    public long getCount()
+    {
+        return this.count;
+    }
+
+
+    /**
+     * Returns the average recorded value in microseconds.
+     * @return the average recorded value in microseconds, 0 if nothing has been recorded.
+     * <pre>{@code
+     * LatencyHistogram histogram = new LatencyHistogram();
+     * double mean = histogram.getMean();
+     * }</pre>
+     */
+    public double getMean()
+    {
+        long count = this.count;
+        return count == 0 ? 0 : (double) this.total / count;
+    }
+
+
+    /**
+     * Returns the highest recorded value in microseconds.
+     * @return the highest recorded value in microseconds.
+     * <pre>{@code
+     * LatencyHistogram histogram = new LatencyHistogram();
+     * long max = histogram.getMax();
+     * }</pre>
+     */
+    public long getMax()
+    {
+        return this.max;
+    }
+
+
+    /**
+     * Returns the given percentile of the recorded values in microseconds. The value is rounded up to its bucket's
+     * upper bound.
+     * @param percentile The percentile, between 0 and 100.
+     * @return the percentile in microseconds, 0 if nothing has been recorded.
+     * <pre>{@code
+     * LatencyHistogram histogram = new LatencyHistogram();
+     * long p99 = histogram.getPercentile(99);
+     * }</pre>
+     */
+    public long getPercentile(double percentile)
+    {
+        long count = this.count;
+        if (count == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < this.counts.length; i++)
+        {
+            seen += this.counts[i];
+            if (seen >= rank) return Math.min(upperBoundOf(i), this.max);
+        }
+        return this.max;
+    }
+
+
+    /**
+     * Returns a summary of the histogram in milliseconds.
+     * @return a summary of the histogram.
+     * <pre>{@code
+     * LatencyHistogram histogram = new LatencyHistogram();
+     * System.out.println(histogram);
+     * }</pre>
+     */
+    @Override
+    public String toString()
+    {
+        return String.format(
+            "%d samples, mean %.2f ms, p50 %.2f ms, p90 %.2f ms, p99 %.2f ms, max %.2f ms",
+            this.getCount(), this.getMean() / 1000.0, this.getPercentile(50) / 1000.0,
+            this.getPercentile(90) / 1000.0, this.getPercentile(99) / 1000.0, this.getMax() / 1000.0
+        );
+    }
+}
@@ -1,12 +1,6 @@
 package Utilities;
 
-import Components.GhostStates;
-import Components.PacmanStates;
 import Components.TokenVariants;
-import Entities.Ghost;
-import java.awt.*;
-import java.util.ArrayList;
-import java.util.Random;
 
 
 /**
@@ -16,14 +10,16 @@ public final class Utils
 {
     /**
      * Check if the ghost has to randomly change direction.
+     * @param random The random generator used.
      * @return true if the ghost has to randomly change direction.
      * <pre>{@code
-     * Boolean bool = Utils.changeDirection();
+     * GameRandom random = new GameRandom(42);
+     * boolean bool = Utils.changeDirection(random);
      * }</pre>
      */
-    public static Boolean changeDirection()
+    public static boolean changeDirection(GameRandom random)
     {
-        return new Random().nextInt(10) == 1;
+        return random.nextInt(10) == 1;
     }
 
 
@@ -59,59 +55,4 @@ public final class Utils
             case GREEN -> 1000;
         };
     }
-
-
-    /**
-     * Returns the player color depending on the given state.
-     * @param state The player's state.
-     * @return the player color depending on the given state.
-     * <pre>{@code
-     * Color color = Utils.getPlayerColor(PacmanStates.Super);
-     * }</pre>
-     */
-    public static Color getPlayerColor(PacmanStates state)
-    {
-        return switch (state)
-        {
-            case Normal -> Configs.PLAYER_COLOR;
-            case Super -> Configs.PLAYER_SUPER_COLOR;
-            case Invisible -> Configs.PLAYER_INVISIBILITY_COLOR;
-        };
-    }
-
-
-    /**
-     * Returns the ghost color depending on the given state.
-     * @param state The ghost's state.
-     * @return the ghost color depending on the given state.
-     * <pre>{@code
-     * Color color = Utils.getGhostColor(GhostStates.Afraid);
-     * }</pre>
-     */
-    public static Color getGhostColor(GhostStates state)
-    {
-        return switch (state)
-        {
-            case Normal -> Configs.GHOST_NORMAL_COLOR;
-            case Afraid -> Configs.GHOST_AFRAID_COLOR;
-        };
-    }
-
-
-    /**
-     * Creates new ghosts.
-     * @return a list of new ghosts.
-     * <pre>{@code
-     * ArrayList<Entities.Ghost> ghosts = Utils.generateGhosts();
-     * }</pre>
-     */
-    public static ArrayList<Entities.Ghost> generateGhosts()
-    {
-        ArrayList<Entities.Ghost> ghosts = new ArrayList<>();
-        ghosts.add(new Ghost());
-        ghosts.add(new Ghost());
-        ghosts.add(new Ghost());
-        ghosts.add(new Ghost());
-        return ghosts;
-    }
 }
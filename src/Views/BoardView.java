@@ -0,0 +1,198 @@
+package Views;
+
+import Logic.Board;
+import Logic.GameManager;
+import Logic.GameSnapshot;
+import Utilities.Configs;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+
+/**
+ * The board's UI. The board is drawn on a persistent image : each new snapshot only redraws the cells the game
+ * reported as changed (see @link GameManager.getChangedCell), and only these cells are repainted on the screen. The
+ * whole board is redrawn when the game or the board changed, or when too many changes were missed. The cells are
+ * copied from the pre-rendered sprites (see @link SpriteCache).
+ */
+public class BoardView extends JComponent
+{
+    /**
+     * The displayed snapshot. Only used on the EDT.
+     */
+    private GameSnapshot snapshot;
+
+
+    /**
+     * The board's image, up to date with the displayed snapshot.
+     */
+    private BufferedImage image;
+
+
+    /**
+     * The game drawn on the image.
+     */
+    private GameManager drawnGame;
+
+
+    /**
+     * The version of the board drawn on the image.
+     */
+    private int drawnBoardVersion;
+
+
+    /**
+     * The game's amount of cell changes drawn on the image.
+     */
+    private long drawnChangeCount;
+
+
+    /**
+     * The ghosts of the drawn cell, sorted by decreasing index. Reused by every cell.
+     */
+    private int[] cellGhosts = new int[0];
+
+
+    /**
+     * The class' constructor.
+     * <pre>{@code
+     * BoardView view = new BoardView();
+     * }</pre>
+     */
+    public BoardView()
+    {
+        super();
+    }
+
+
+    /**
+     * Returns true : the board's image covers the whole view, so nothing behind it has to be painted.
+     * @return true.
+     * <pre>{@code
+     * boolean opaque = view.isOpaque();
+     * }</pre>
+     */
+    @Override
+    public boolean isOpaque()
+    {
+        return true;
+    }
+
+
+    /**
+     * Changes the displayed snapshot : the changed cells are redrawn on the board's image and repainted. Must be called
+     * on the EDT, with the snapshot acquired on the EDT : the snapshot must stay unchanged until the next one is
+     * displayed.
+     * @param snapshot The displayed snapshot.
+     * <pre>{@code
+     * view.setSnapshot(this.snapshots.acquire());
+     * }</pre>
+     */
+    public void setSnapshot(GameSnapshot snapshot)
+    {
+        this.snapshot = snapshot;
+        Board board = snapshot.getBoard();
+        int width = board.getRows() * Configs.TILE_SIZE, height = board.getCols() * Configs.TILE_SIZE;
+        long changes = snapshot.getChangeCount() - this.drawnChangeCount;
+        if (this.image == null || this.image.getWidth() != width || this.image.getHeight() != height
+            || snapshot.getGame() != this.drawnGame || snapshot.getBoardVersion() != this.drawnBoardVersion
+            || changes < 0 || changes > GameManager.CHANGE_LOG_SIZE)
+        {
+            this.redraw(width, height);
+            this.repaint();
+        }
+        else
+        {
+            SpriteCache sprites = SpriteCache.get();
+            Graphics2D g = this.image.createGraphics();
+            for (long change = this.drawnChangeCount; change < snapshot.getChangeCount(); change++)
+            {
+                int cell = snapshot.getChangedCell(change);
+                this.drawCell(g, sprites, board, cell);
+                this.repaint(board.rowOf(cell) * Configs.TILE_SIZE, board.colOf(cell) * Configs.TILE_SIZE,
+                    Configs.TILE_SIZE, Configs.TILE_SIZE);
+            }
+            g.dispose();
+        }
+        this.drawnChangeCount = snapshot.getChangeCount();
+    }
+
+
+    /**
+     * Redraws the whole board on a new image, and resizes the view to the board.
+     * @param width The board's width in pixel.
+     * @param height The board's height in pixel.
+     * <pre>{@code
+     * this.redraw(1029, 1029);
+     * }</pre>
+     */
+    private void redraw(int width, int height)
+    {
+        if (this.image == null || this.image.getWidth() != width || this.image.getHeight() != height)
+        {
+            GraphicsConfiguration configuration = this.getGraphicsConfiguration();
+            this.image = configuration == null
+                ? new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB)
+                : configuration.createCompatibleImage(width, height);
+            Dimension size = new Dimension(width, height);
+            this.setPreferredSize(size);
+            this.setSize(size);
+        }
+        Board board = this.snapshot.getBoard();
+        SpriteCache sprites = SpriteCache.get();
+        Graphics2D g = this.image.createGraphics();
+        for (int cell = 0; cell < board.getCellCount(); cell++) this.drawCell(g, sprites, board, cell);
+        g.dispose();
+        this.drawnGame = this.snapshot.getGame();
+        this.drawnBoardVersion = this.snapshot.getBoardVersion();
+    }
+
+
+    /**
+     * Draws the given cell on the board's image : the tile, the token, the cell's ghosts and the player on top.
+     * @param g The image's graphics.
+     * @param sprites The sprites of the current tile's size.
+     * @param board The displayed board.
+     * @param cell The cell id.
+     * <pre>{@code
+     * this.drawCell(g, SpriteCache.get(), board, 215);
+     * }</pre>
+     */
+    private void drawCell(Graphics g, SpriteCache sprites, Board board, int cell)
+    {
+        int x = board.rowOf(cell) * Configs.TILE_SIZE, y = board.colOf(cell) * Configs.TILE_SIZE;
+        g.drawImage(sprites.getCell(board.getTile(cell), board.getToken(cell)), x, y, null);
+        if (board.hasGhost(cell))
+        {
+            // The cell's list is in arrival order, while the first ghosts are drawn on top of the last ones, as the
+            // ghosts' components used to be : the few ghosts of the cell are sorted by decreasing index first
+            if (this.cellGhosts.length < board.getGhostCount()) this.cellGhosts = new int[board.getGhostCount()];
+            int count = 0;
+            for (int ghost = board.firstGhost(cell); ghost != Board.NO_GHOST; ghost = board.nextGhost(ghost))
+            {
+                int i = count++;
+                for (; i > 0 && this.cellGhosts[i - 1] < ghost; i--) this.cellGhosts[i] = this.cellGhosts[i - 1];
+                this.cellGhosts[i] = ghost;
+            }
+            for (int i = 0; i < count; i++)
+                g.drawImage(sprites.getGhost(this.snapshot.getGhostState(this.cellGhosts[i])), x, y, null);
+        }
+        if (board.getPlayerCell() == cell) g.drawImage(sprites.getPlayer(this.snapshot.getPlayerState()), x, y, null);
+    }
+
+
+    /**
+     * Copies the repainted area of the board's image on the screen.
+     * @param g  the <code>Graphics</code> context in which to paint
+     * <pre>{@code
+     * BoardView view = new BoardView();
+     * view.repaint();
+     * }</pre>
+     */
+    @Override
+    protected void paintComponent(Graphics g)
+    {
+        if (this.image != null) g.drawImage(this.image, 0, 0, null);
+    }
+}
@@ -1,25 +1,34 @@
 package Views;
 
-import Entities.Ghost;
-import Entities.Pacgomme;
-import Entities.Pacman;
-import Entities.Tile;
+import Handlers.InputQueue;
 import Handlers.PlayerMovementKeyEventListener;
 import Logic.GameManager;
+import Logic.GameSnapshot;
+import Logic.SnapshotBuffer;
+import Simulation.ReplayRecorder;
 import UI.Lives;
 import UI.Score;
 import UI.TokensRemaining;
+import Utilities.Colors;
 import Utilities.Configs;
+import Utilities.GameLoop;
+import Utilities.LatencyHistogram;
 import Utilities.Utils;
 
 import javax.swing.*;
 import java.awt.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 
 /***
  * The Main window.
  */
-public class MainWindow extends JFrame
+public final class MainWindow extends JFrame
 {
     /**
      * The x delta to place the board at the center of the frame.
@@ -34,9 +43,51 @@ public class MainWindow extends JFrame
 
 
     /**
-     * The game instance.
+     * The game instance. Modified by the simulation thread only.
      */
-    private GameManager game;
+    private volatile GameManager game;
+
+
+    /**
+     * Records the game's inputs. Used by the simulation thread only.
+     */
+    private ReplayRecorder recorder;
+
+
+    /**
+     * Hands the game's snapshots over from the simulation thread to the EDT.
+     */
+    private final SnapshotBuffer snapshots = new SnapshotBuffer();
+
+
+    /**
+     * Flag set while a render is queued on the EDT, so that late renders are not queued twice.
+     */
+    private final AtomicBoolean renderPending = new AtomicBoolean(false);
+
+
+    /**
+     * Flag set by the EDT when the player asks for a new game. The simulation thread then replaces the game.
+     */
+    private volatile boolean newGameRequested = false;
+
+
+    /**
+     * The game displayed by the views. Only used by the EDT to detect a new game.
+     */
+    private GameManager displayedGame;
+
+
+    /**
+     * The version of the board displayed by the views.
+     */
+    private int displayedBoardVersion;
+
+
+    /**
+     * Flag set once the game over dialog has been shown for the displayed game.
+     */
+    private boolean gameOverShown = false;
 
 
     /**
@@ -58,10 +109,33 @@ public class MainWindow extends JFrame
 
 
     /**
-     * The key event listener notifies here the new direction.
-     * It prevents
+     * The board's UI. Draws the whole board on a single component.
+     */
+    private final BoardView boardView = new BoardView();
+
+
+    /**
+     * The key event listener pushes here the new directions, the update loop drains them before each turn.
      */
-    private Utils.Moving directionBuffer = null;
+    private final InputQueue inputs = new InputQueue(64);
+
+
+    /**
+     * The latency between a key press and the turn applying the direction.
+     */
+    private final LatencyHistogram inputLatency = new LatencyHistogram();
+
+
+    /**
+     * The timestamps of the directions drained before the current turn. Only used by the update loop.
+     */
+    private long[] drainedTimestamps = new long[64];
+
+
+    /**
+     * The update loop. Plays the turns at the game's refresh rate and repaints the window at the display's one.
+     */
+    private GameLoop loop;
 
     /**
      * The class constructor. During initialisation:
@@ -77,6 +151,8 @@ public class MainWindow extends JFrame
     {
         super();
         this.game = new GameManager();
+        this.recorder = new ReplayRecorder(this.game.getSeed());
+        this.snapshots.publish(this.game);
         this.scoreDisplay = new Score();
         this.livesDisplay = new Lives(this.game.getLives());
         this.tokensRemainingDisplay = new TokensRemaining(this.game.getRemainingTokens());
@@ -87,25 +163,72 @@ public class MainWindow extends JFrame
 
 
     /**
-     * The game's update loop.
+     * The game's update loop. The turns are played on the loop's thread, which publishes a snapshot of the game after
+     * each turn. The renders are queued on the EDT, which only reads the latest snapshot.
      * <pre>{@code
      * UpdateLoop();
      * }</pre>
      * */
     private void UpdateLoop()
     {
-        new Thread(() -> {
-            while (true)
-            {
-                try { Thread.sleep(Configs.FPS); } catch (Exception ignored) {}
-                this.updatePositions();
-                if (this.directionBuffer != null) this.game.getPlayer().changeDirection(this.directionBuffer);
-                this.directionBuffer = null;
-                this.repaint();
+        this.loop = new GameLoop(
+            TimeUnit.MILLISECONDS.toNanos(Configs.FPS),
+            TimeUnit.MILLISECONDS.toNanos(Configs.RENDER_RATE),
+            Configs.LATE_TURNS_POLICY,
+            Configs.MAX_CATCH_UP_TURNS,
+            () -> {
+                if (this.newGameRequested)
+                {
+                    this.game = new GameManager();
+                    this.recorder = new ReplayRecorder(this.game.getSeed());
+                    this.newGameRequested = false;
+                }
+                int drained = 0;
+                while (!this.inputs.isEmpty())
+                {
+                    if (drained == this.drainedTimestamps.length)
+                        this.drainedTimestamps = Arrays.copyOf(this.drainedTimestamps, drained * 2);
+                    this.drainedTimestamps[drained++] = this.inputs.peekTimestamp();
+                    Utils.Moving direction = this.inputs.poll();
+                    if (!this.game.isGameOver()) this.recorder.recordInput(direction);
+                    this.game.getPlayer().changeDirection(direction);
+                }
+                if (!this.game.isGameOver())
+                {
+                    this.updatePositions();
+                    this.recorder.recordTick();
+                    long now = System.nanoTime();
+                    for (int i = 0; i < drained; i++) this.inputLatency.record(now - this.drainedTimestamps[i]);
+                    if (this.game.isGameOver()) this.saveReplay();
+                }
+                this.snapshots.publish(this.game);
+            },
+            () -> {
+                if (this.renderPending.compareAndSet(false, true)) SwingUtilities.invokeLater(this::render);
             }
-        }).start();
+        );
+        new Thread(this.loop, "update-loop").start();
+    }
+
+    /**
+     * Saves the current game's replay in the configured directory, see @link Configs.REPLAY_DIRECTORY. A replay which
+     * cannot be saved is reported but does not stop the game.
+     * <pre>{@code
+     * this.saveReplay();
+     * }</pre>
+     */
+    private void saveReplay()
+    {
+        if (Configs.REPLAY_DIRECTORY == null) return;
+        try
+        {
+            Path directory = Files.createDirectories(Path.of(Configs.REPLAY_DIRECTORY));
+            this.recorder.toReplay().write(directory.resolve(this.game.getSeed() + ".replay"));
+        }
+        catch (IOException e) { System.err.println("Replay not saved : " + e.getMessage()); }
     }
 
+
     /**
      * Move the player and the ghosts on the board.
      * <pre>{@code
@@ -116,16 +239,7 @@ public class MainWindow extends JFrame
      */
     public void updatePositions()
     {
-        this.game.moveGhosts();
-        Utils.Moving playerDirection = this.game.getPlayer().getCurrentDirection();
-        this.game.movePlayer(playerDirection == null ? Utils.Moving.STILL : playerDirection);
-        if (!this.game.getBoardShuffled()) this.paint(null);
-        else
-        {
-            this.reset();
-            this.game.setBoardShuffled(false);
-            this.initialDisplay();
-        }
+        this.game.tick();
     }
 
 
@@ -138,8 +252,9 @@ public class MainWindow extends JFrame
     private void configureWindow()
     {
         this.setSize(Configs.WINDOW_WIDTH, Configs.WINDOW_HEIGHT);
-        this.setBackground(Configs.BACKGROUND_COLOR);
+        this.setBackground(Colors.BACKGROUND_COLOR);
         this.setResizable(false);
+        this.setLayout(null);
         this.add(scoreDisplay);
         this.add(livesDisplay);
         this.add(tokensRemainingDisplay);
@@ -164,7 +279,9 @@ public class MainWindow extends JFrame
     private void displayBoard()
     {
         this.boardXDelta = (Configs.WINDOW_WIDTH - Configs.TILE_SIZE * Configs.BOARD_WIDTH) / 3;
-        this.initialDisplay();
+        this.add(this.boardView);
+        this.boardView.setLocation(this.boardXDelta, this.boardYDelta);
+        this.initialDisplay(this.snapshots.acquire());
     }
 
 
@@ -183,175 +300,60 @@ public class MainWindow extends JFrame
 
 
     /**
-     * Displays the board for the first time on the window.
+     * Displays the given snapshot's board on the window for the first time.
+     * @param snapshot The displayed snapshot.
      * <pre>{@code
-     * this.initialDisplay();
+     * this.initialDisplay(this.snapshots.acquire());
      * }</pre>
      */
-    public void initialDisplay()
+    private void initialDisplay(GameSnapshot snapshot)
     {
-        Logic.Tile[][] board = this.game.getBoard();
-        for (int r = 0; r < board.length; r++)
-        {
-            for (int c = 0; c < board[r].length; c++)
-            {
-                if (board[r][c].hasPlayer())
-                {
-                    this.add(board[r][c].getPlayer());
-                    board[r][c].getPlayer().setBounds(
-                        new Rectangle(
-                            boardXDelta + r * Configs.TILE_SIZE,
-                            boardYDelta + c * Configs.TILE_SIZE,
-                            Configs.TILE_SIZE,
-                            Configs.TILE_SIZE
-                        )
-                    );
-                }
-                if (board[r][c].getGhost() != null)
-                {
-                    this.add(board[r][c].getGhost());
-                    board[r][c].getGhost().setBounds(
-                        new Rectangle(
-                            boardXDelta + r * Configs.TILE_SIZE,
-                            boardYDelta + c * Configs.TILE_SIZE,
-                            Configs.TILE_SIZE,
-                            Configs.TILE_SIZE
-                        )
-                    );
-                }
-            }
-        }
-
-        for (int r = 0; r < board.length; r++)
-        {
-            for (int c = 0; c < board[r].length; c++)
-            {
-                if (board[r][c].getToken() != null)
-                {
-                    this.add(board[r][c].getToken());
-                    board[r][c].getToken().setBounds(
-                        new Rectangle(
-                            boardXDelta + r * Configs.TILE_SIZE,
-                            boardYDelta + c * Configs.TILE_SIZE,
-                            Configs.TILE_SIZE,
-                            Configs.TILE_SIZE
-                        )
-                    );
-                }
-            }
-        }
-        for (int r = 0; r < board.length; r++)
-        {
-            for (int c = 0; c < board[r].length; c++) {
-                this.add(board[r][c].getTile());
-                board[r][c].getTile().setBounds(
-                    new Rectangle(
-                        boardXDelta + r * Configs.TILE_SIZE,
-                        boardYDelta + c * Configs.TILE_SIZE,
-                        Configs.TILE_SIZE,
-                        Configs.TILE_SIZE
-                    )
-                );
-            }
-        }
-    }
-
-
-    /**
-     * Removes all components on the window and replace the UIs.
-     * <pre>{@code
-     * this.reset();
-     * }</pre>
-     */
-    private void reset()
-    {
-        this.getContentPane().removeAll();
-        this.add(scoreDisplay);
-        this.add(livesDisplay);
-        this.add(tokensRemainingDisplay);
-        this.game.toggleBoard();
+        this.displayedGame = snapshot.getGame();
+        this.displayedBoardVersion = snapshot.getBoardVersion();
+        this.boardView.setSnapshot(snapshot);
     }
 
 
     /**
-     * Creates a new game. Resets all components and redisplay the UIs.
+     * Requests a new game. The simulation thread replaces the game before its next turn, the views are rebuilt once
+     * the new game's first snapshot is rendered.
      * <pre>{@code
      * this.newGame();
      * }</pre>
      */
     private void newGame()
     {
-        this.getContentPane().removeAll();
-        this.game = new GameManager();
-        this.scoreDisplay = new Score();
-        this.livesDisplay = new Lives(this.game.getLives());
-        this.tokensRemainingDisplay = new TokensRemaining(this.game.getRemainingTokens());
-        this.add(scoreDisplay);
-        this.add(livesDisplay);
-        this.add(tokensRemainingDisplay);
-        this.scoreDisplay.setPreferredSize(new Dimension(200, 100));
-        this.livesDisplay.setPreferredSize(new Dimension(200, 100));
-        this.tokensRemainingDisplay.setPreferredSize(new Dimension(100, 100));
-        int x = Configs.WINDOW_WIDTH / 5;
-        this.scoreDisplay.setBounds(x, 0, 200, 100);
-        this.livesDisplay.setBounds(2 * x, 0, 200, 100);
-        this.tokensRemainingDisplay.setBounds(3 * x, 0, 200, 100);
-        this.initialDisplay();
+        this.newGameRequested = true;
     }
 
 
     /**
-     * Updates the board. Replace the ghosts, the player and hides the consumed tokens.
+     * Updates the views from the latest snapshot. Only the changed cells of the board are repainted. Must be called on
+     * the EDT.
      * <pre>{@code
-     * MainWindow window = new MainWindow();
-     * window.update();
+     * SwingUtilities.invokeLater(this::render);
      * }</pre>
      */
-    @Override
-    public void paint(Graphics g)
+    private void render()
     {
-        if (g != null) super.paint(g);
-        this.scoreDisplay.changeScore(this.game.getScore());
-        this.livesDisplay.changeLives(this.game.getLives());
-        this.tokensRemainingDisplay.changeText(this.game.getRemainingTokens());
+        this.renderPending.set(false);
+        GameSnapshot snapshot = this.snapshots.acquire();
+        if (snapshot.getGame() != this.displayedGame || snapshot.getBoardVersion() != this.displayedBoardVersion)
+        {
+            if (snapshot.getGame() != this.displayedGame) this.gameOverShown = false;
+            this.initialDisplay(snapshot);
+        }
+        this.scoreDisplay.changeScore(snapshot.getScore());
+        this.livesDisplay.changeLives(snapshot.getLives());
+        this.tokensRemainingDisplay.changeText(snapshot.getRemainingTokens());
         this.scoreDisplay.repaint();
         this.livesDisplay.repaint();
         this.tokensRemainingDisplay.repaint();
-        Logic.Tile[][] board = this.game.getBoard();
+        this.boardView.setSnapshot(snapshot);
 
-        for (int r = 0; r < board.length; r++)
-        {
-            for (int c = 0; c < board[r].length; c++)
-            {
-                if (board[r][c].hasPlayer())
-                {
-                    if (board[r][c].getToken() != null)
-                    {
-                        this.remove(board[r][c].getToken());
-                        board[r][c].removeToken();
-                    }
-                }
-            }
-        }
-        // Position + gui of ghosts and pacman
-        for (int r = 0; r < board.length; r++)
-        {
-            for (int c = 0; c < board[r].length; c++)
-            {
-                if (board[r][c].hasPlayer()) this.place(board[r][c].getPlayer(), r, c);
-                if (board[r][c].getGhost() != null) this.place(board[r][c].getGhost(), r, c);
-            }
-        }
-        for (int r = 0; r < board.length; r++)
-            for (int c = 0; c < board[r].length; c++)
-                if (board[r][c].getToken() != null) this.place(board[r][c].getToken(), r, c);
-
-        for (int r = 0; r < board.length; r++)
-            for (int c = 0; c < board[r].length; c++)
-                this.place(board[r][c].getTile(), r, c);
-
-        if (this.game.getLives() <= 0 || this.game.getRemainingTokens() <= 0)
+        if (snapshot.isGameOver() && !this.gameOverShown)
         {
+            this.gameOverShown = true;
             int res = JOptionPane.showConfirmDialog(this, "Game over. Start a new game ?");
             if (res == JOptionPane.YES_OPTION) this.newGame();
             else System.exit(0);
@@ -360,76 +362,44 @@ public class MainWindow extends JFrame
 
 
     /**
-     * Place the given token on the window.
-     * @param pacgomme The token to be placed.
-     * @param r The row index of the token's tile.
-     * @param c The column index of the token's tile.
-     * <pre>{@code
-     * Pacgomme token = new Pacgomme(TokenVariants.BLUE);
-     * this.place(token, 10, 5);
-     * }</pre>
-     */
-    private void place(Pacgomme pacgomme, int r, int c)
-    {
-        pacgomme.setLocation(boardXDelta + r * Configs.TILE_SIZE, boardYDelta + c * Configs.TILE_SIZE);
-    }
-
-
-    /**
-     * Place the given tile on the window.
-     * @param tile The tile to be placed.
-     * @param r The row index of the token's tile.
-     * @param c The column index of the token's tile.
+     * Queues a new direction, stamped with the current time. It is applied at the start of the next turn. Must be
+     * called on the EDT.
+     * @param direction The new direction.
      * <pre>{@code
-     * Tile tile = new Tile(TileVariant.WALL);
-     * this.place(tile, 10, 5);
+     * Utils.Moving direction = Utils.Moving.UP;
+     * updateDirectionBuffer(direction);
      * }</pre>
      */
-    private void place(Tile tile, int r, int c)
+    public void updateDirectionBuffer(Utils.Moving direction)
     {
-        tile.setLocation(boardXDelta + r * Configs.TILE_SIZE, boardYDelta + c * Configs.TILE_SIZE);
+        this.inputs.offer(direction);
     }
 
 
     /**
-     * Place the given player on the window.
-     * @param pacman The player to be placed.
-     * @param r The row index of the token's tile.
-     * @param c The column index of the token's tile.
+     * Returns the latency between a key press and the turn applying the direction.
+     * @return the input latency's histogram.
      * <pre>{@code
-     * Pacman player = new Pacman();
-     * this.place(player, 10, 5);
+     * MainWindow window = new MainWindow();
+     * LatencyHistogram latency = window.getInputLatency();
      * }</pre>
      */
-    private void place(Pacman pacman, int r, int c)
+    public LatencyHistogram getInputLatency()
     {
-        pacman.setLocation(boardXDelta + r * Configs.TILE_SIZE, boardYDelta + c * Configs.TILE_SIZE);
+        return this.inputLatency;
     }
 
 
     /**
-     * Place the given ghost on the window.
-     * @param ghost The ghost to be placed.
-     * @param r The row index of the token's tile.
-     * @param c The column index of the token's tile.
+     * Returns the update loop, to read its lateness, overruns and skipped turns.
+     * @return the update loop.
      * <pre>{@code
-     * Ghost ghost = new Ghost();
-     * this.place(ghost, 10, 5);
+     * MainWindow window = new MainWindow();
+     * long overruns = window.getLoop().getOverruns();
      * }</pre>
      */
-    private void place(Ghost ghost, int r, int c)
+    public GameLoop getLoop()
     {
-        ghost.setLocation(boardXDelta + r * Configs.TILE_SIZE, boardYDelta + c * Configs.TILE_SIZE);
+        return this.loop;
     }
-
-
-    /**
-     * Sets a new direction in the direction buffer.
-     * @param direction The new direction.
-     * <pre>{@code
-     * Utils.Moving direction = Utils.Moving.UP;
-     * updateDirectionBuffer(direction);
-     * }</pre>
-     */
-    public void updateDirectionBuffer(Utils.Moving direction) { this.directionBuffer = direction; }
 }
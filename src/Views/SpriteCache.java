@@ -0,0 +1,329 @@
+package Views;
+
+import Components.GhostStates;
+import Components.PacmanStates;
+import Components.TileVariant;
+import Components.TokenVariants;
+import Utilities.Colors;
+import Utilities.Configs;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+
+/**
+ * The pre-rendered sprites of the tiles, tokens, ghosts and player : one image per variant or state, of the tile's
+ * size. The images are compatible with the screen, so drawing a sprite is a plain copy. The sprites are rendered once
+ * and rendered again only when the tile's size changes (see @link Configs.TILE_SIZE).
+ */
+public final class SpriteCache
+{
+    /**
+     * The sprites of the current tile's size.
+     */
+    private static volatile SpriteCache current;
+
+
+    /**
+     * The sprites' size in pixel.
+     */
+    private final int tileSize;
+
+
+    /**
+     * The tiles' sprites, indexed by variant.
+     */
+    private final BufferedImage[] tiles;
+
+
+    /**
+     * The tokens' sprites, indexed by variant.
+     */
+    private final BufferedImage[] tokens;
+
+
+    /**
+     * The opaque sprites of the tiles holding a token, indexed by the tile's variant then the token's one. The cells
+     * without token use the tile's sprite.
+     */
+    private final BufferedImage[][] cells;
+
+
+    /**
+     * The ghosts' sprites, indexed by state.
+     */
+    private final BufferedImage[] ghosts;
+
+
+    /**
+     * The player's sprites, indexed by state.
+     */
+    private final BufferedImage[] players;
+
+
+    /**
+     * The class' constructor. Renders all the sprites.
+     * @param tileSize The sprites' size in pixel.
+     * <pre>{@code
+     * SpriteCache sprites = new SpriteCache(Configs.TILE_SIZE);
+     * }</pre>
+     */
+    private SpriteCache(int tileSize)
+    {
+        this.tileSize = tileSize;
+        TileVariant[] tileVariants = TileVariant.values();
+        this.tiles = new BufferedImage[tileVariants.length];
+        for (TileVariant variant : tileVariants)
+        {
+            this.tiles[variant.ordinal()] = this.createImage(Transparency.OPAQUE);
+            Graphics2D g = this.tiles[variant.ordinal()].createGraphics();
+            renderTile(g, variant);
+            g.dispose();
+        }
+        TokenVariants[] tokenVariants = TokenVariants.values();
+        this.tokens = new BufferedImage[tokenVariants.length];
+        for (TokenVariants variant : tokenVariants)
+        {
+            this.tokens[variant.ordinal()] = this.createImage(Transparency.BITMASK);
+            Graphics2D g = this.tokens[variant.ordinal()].createGraphics();
+            renderToken(g, variant);
+            g.dispose();
+        }
+        this.cells = new BufferedImage[tileVariants.length][tokenVariants.length];
+        for (TileVariant tile : tileVariants)
+        {
+            for (TokenVariants token : tokenVariants)
+            {
+                if (token == TokenVariants.NONE)
+                {
+                    this.cells[tile.ordinal()][token.ordinal()] = this.tiles[tile.ordinal()];
+                    continue;
+                }
+                this.cells[tile.ordinal()][token.ordinal()] = this.createImage(Transparency.OPAQUE);
+                Graphics2D g = this.cells[tile.ordinal()][token.ordinal()].createGraphics();
+                renderTile(g, tile);
+                renderToken(g, token);
+                g.dispose();
+            }
+        }
+        GhostStates[] ghostStates = GhostStates.values();
+        this.ghosts = new BufferedImage[ghostStates.length];
+        for (GhostStates state : ghostStates)
+        {
+            this.ghosts[state.ordinal()] = this.createImage(Transparency.BITMASK);
+            Graphics2D g = this.ghosts[state.ordinal()].createGraphics();
+            renderGhost(g, state);
+            g.dispose();
+        }
+        PacmanStates[] playerStates = PacmanStates.values();
+        this.players = new BufferedImage[playerStates.length];
+        for (PacmanStates state : playerStates)
+        {
+            this.players[state.ordinal()] = this.createImage(Transparency.BITMASK);
+            Graphics2D g = this.players[state.ordinal()].createGraphics();
+            renderPlayer(g, state);
+            g.dispose();
+        }
+    }
+
+
+    /**
+     * Returns the sprites of the current tile's size. The sprites are rendered on the first call and when the tile's
+     * size changed.
+     * @return the sprites of the current tile's size.
+     * <pre>{@code
+     * BufferedImage sprite = SpriteCache.get().getTile(TileVariant.WALL);
+     * }</pre>
+     */
+    public static SpriteCache get()
+    {
+        SpriteCache sprites = current;
+        if (sprites == null || sprites.tileSize != Configs.TILE_SIZE) current = sprites = new SpriteCache(Configs.TILE_SIZE);
+        return sprites;
+    }
+
+
+    /**
+     * Creates an empty sprite, compatible with the screen when there is one.
+     * @param transparency The sprite's transparency, see @link Transparency.
+     * @return the empty sprite.
+     * <pre>{@code
+     * BufferedImage sprite = this.createImage(Transparency.BITMASK);
+     * }</pre>
+     */
+    private BufferedImage createImage(int transparency)
+    {
+        if (GraphicsEnvironment.isHeadless())
+            return new BufferedImage(this.tileSize, this.tileSize, transparency == Transparency.OPAQUE
+                ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB_PRE);
+        return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration()
+            .createCompatibleImage(this.tileSize, this.tileSize, transparency);
+    }
+
+
+    /**
+     * Returns the given tile's sprite.
+     * @param variant The tile's variant.
+     * @return the tile's sprite.
+     * <pre>{@code
+     * BufferedImage sprite = SpriteCache.get().getTile(TileVariant.WALL);
+     * }</pre>
+     */
+    public BufferedImage getTile(TileVariant variant)
+    {
+        return this.tiles[variant.ordinal()];
+    }
+
+
+    /**
+     * Returns the given token's sprite.
+     * @param variant The token's variant. null is drawn as @link TokenVariants.NONE.
+     * @return the token's sprite.
+     * <pre>{@code
+     * BufferedImage sprite = SpriteCache.get().getToken(TokenVariants.BLUE);
+     * }</pre>
+     */
+    public BufferedImage getToken(TokenVariants variant)
+    {
+        return this.tokens[(variant == null ? TokenVariants.NONE : variant).ordinal()];
+    }
+
+
+    /**
+     * Returns the opaque sprite of the given tile holding the given token : a cell is drawn with a single copy.
+     * @param tile The tile's variant.
+     * @param token The token's variant. @link TokenVariants.NONE for a cell without token.
+     * @return the cell's sprite.
+     * <pre>{@code
+     * BufferedImage sprite = SpriteCache.get().getCell(TileVariant.EMPTY, TokenVariants.BLUE);
+     * }</pre>
+     */
+    public BufferedImage getCell(TileVariant tile, TokenVariants token)
+    {
+        return this.cells[tile.ordinal()][token.ordinal()];
+    }
+
+
+    /**
+     * Returns the ghost's sprite of the given state.
+     * @param state The ghost's state.
+     * @return the ghost's sprite.
+     * <pre>{@code
+     * BufferedImage sprite = SpriteCache.get().getGhost(GhostStates.Afraid);
+     * }</pre>
+     */
+    public BufferedImage getGhost(GhostStates state)
+    {
+        return this.ghosts[state.ordinal()];
+    }
+
+
+    /**
+     * Returns the player's sprite of the given state.
+     * @param state The player's state.
+     * @return the player's sprite.
+     * <pre>{@code
+     * BufferedImage sprite = SpriteCache.get().getPlayer(PacmanStates.Super);
+     * }</pre>
+     */
+    public BufferedImage getPlayer(PacmanStates state)
+    {
+        return this.players[state.ordinal()];
+    }
+
+
+    /**
+     * Renders the tile in a cell at the origin.
+     * @param g The <code>Graphics</code> context in which to paint.
+     * @param variant The rendered variant.
+     * <pre>{@code
+     * renderTile(g, TileVariant.WALL);
+     * }</pre>
+     */
+    private static void renderTile(Graphics g, TileVariant variant)
+    {
+        g.setColor(Colors.getTileColor(variant));
+        g.fillRect(0, 0, Configs.TILE_SIZE, Configs.TILE_SIZE);
+    }
+
+
+    /**
+     * Renders the token in a cell at the origin.
+     * @param g The <code>Graphics</code> context in which to paint.
+     * @param variant The rendered variant.
+     * <pre>{@code
+     * renderToken(g, TokenVariants.BLUE);
+     * }</pre>
+     */
+    private static void renderToken(Graphics g, TokenVariants variant)
+    {
+        g.setColor(Colors.getTokenColor((variant == null) ? TokenVariants.NONE : variant));
+        int p = (Configs.TILE_SIZE - Configs.TOKEN_SIZE) / 2;
+        g.fillOval(p, p, Configs.TOKEN_SIZE, Configs.TOKEN_SIZE);
+    }
+
+
+    /**
+     * Renders the ghost in a cell at the origin.
+     * @param g The <code>Graphics</code> context in which to paint.
+     * @param state The rendered state.
+     * <pre>{@code
+     * renderGhost(g, GhostStates.Afraid);
+     * }</pre>
+     */
+    private static void renderGhost(Graphics g, GhostStates state)
+    {
+        Color color = Colors.getGhostColor(state);
+        int sphereSize = Configs.GHOST_SIZE / 2;
+        int p = (Configs.GHOST_SIZE - sphereSize) / 2;
+        g.setColor(color);
+        g.fillOval(p, p / 2, sphereSize, sphereSize);
+        g.fillRect(p, (p + sphereSize) / 2, sphereSize, sphereSize);
+        g.setColor(Colors.GHOST_EYE_COLOR);
+        g.fillOval(2 * Configs.GHOST_SIZE / 6, (int)(1.2 * p), Configs.GHOST_EYE_SIZE, Configs.GHOST_EYE_SIZE);
+        g.fillOval(
+            2 * Configs.GHOST_SIZE / 6 + (int)(1.5 * Configs.GHOST_EYE_SIZE),
+            (int)(1.2 * p),
+            Configs.GHOST_EYE_SIZE,
+            Configs.GHOST_EYE_SIZE
+        );
+        g.setColor(Color.BLACK);
+        g.fillOval(
+            Configs.GHOST_EYE_SIZE / 4 + 2 * Configs.GHOST_SIZE / 5,
+            Configs.GHOST_EYE_SIZE / 4 + (int)(1.3 * p),
+            Configs.GHOST_EYE_SIZE / 2,
+            Configs.GHOST_EYE_SIZE / 2
+        );
+        g.fillOval(
+            2 * Configs.GHOST_SIZE / 5 + (int)(1.5 * Configs.GHOST_EYE_SIZE) + Configs.GHOST_EYE_SIZE / 4,
+            (int)(1.3 * p) + Configs.GHOST_EYE_SIZE / 4,
+            Configs.GHOST_EYE_SIZE / 2,
+            Configs.GHOST_EYE_SIZE / 2
+        );
+    }
+
+
+    /**
+     * Renders the player in a cell at the origin.
+     * @param g The <code>Graphics</code> context in which to paint.
+     * @param state The rendered state.
+     * <pre>{@code
+     * renderPlayer(g, PacmanStates.Super);
+     * }</pre>
+     */
+    private static void renderPlayer(Graphics g, PacmanStates state)
+    {
+        int size = (int)(Configs.PLAYER_SIZE * 0.9);
+        int position = (Configs.TILE_SIZE - size) / 2;
+        g.setColor(Colors.getPlayerColor(state));
+        g.fillOval(position, position, size, size);
+        g.setColor(Colors.PLAYER_EYE_COLOR);
+        g.fillOval(Configs.PLAYER_SIZE / 6, Configs.PLAYER_SIZE / 6, Configs.PLAYER_EYE_SIZE, Configs.PLAYER_EYE_SIZE);
+        g.setColor(Color.BLACK);
+        g.fillOval(Configs.PLAYER_SIZE / 6, Configs.PLAYER_SIZE / 6 + Configs.PLAYER_EYE_SIZE / 4, Configs.PLAYER_EYE_SIZE / 2, Configs.PLAYER_EYE_SIZE / 2);
+        g.setColor(Colors.getTileColor(TileVariant.EMPTY));
+        int[] mouthX = { Configs.TILE_SIZE / 2, Configs.TILE_SIZE, Configs.TILE_SIZE  };
+        int[] mouthY = { Configs.TILE_SIZE / 2, Configs.TILE_SIZE / 3, 2 * Configs.TILE_SIZE / 3  };
+        g.fillPolygon(mouthX, mouthY, 3);
+    }
+}